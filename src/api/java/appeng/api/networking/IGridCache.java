@@ -25,6 +25,7 @@ package appeng.api.networking;
 
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
 
 
 /**
@@ -67,6 +68,40 @@ public interface IGridCache
 	 */
 	void addNode( @Nonnull IGridNode gridNode, @Nonnull IGridHost machine );
 
+	/**
+	 * informs your cache that a group of machines was removed from the grid at
+	 * once, for example when the grid splits.
+	 *
+	 * Override this if your cache can handle the whole group cheaper than one
+	 * node at a time, by default {@link #removeNode} is called for each node.
+	 *
+	 * @param gridNodes removed from that grid
+	 */
+	default void removeNodes( @Nonnull Collection<IGridNode> gridNodes )
+	{
+		for( final IGridNode gridNode : gridNodes )
+		{
+			this.removeNode( gridNode, gridNode.getMachine() );
+		}
+	}
+
+	/**
+	 * informs your cache that a group of machines was added to the grid at
+	 * once, for example when two grids merge.
+	 *
+	 * Override this if your cache can handle the whole group cheaper than one
+	 * node at a time, by default {@link #addNode} is called for each node.
+	 *
+	 * @param gridNodes added to the grid
+	 */
+	default void addNodes( @Nonnull Collection<IGridNode> gridNodes )
+	{
+		for( final IGridNode gridNode : gridNodes )
+		{
+			this.addNode( gridNode, gridNode.getMachine() );
+		}
+	}
+
 	/**
 	 * Called when a grid splits into two grids, AE will call a split as it
 	 * Iteratively processes changes. The destination should receive half, and
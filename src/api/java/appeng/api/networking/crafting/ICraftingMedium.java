@@ -44,6 +44,34 @@ public interface ICraftingMedium
 	 */
 	boolean pushPattern( ICraftingPatternDetails patternDetails, InventoryCrafting table );
 
+	/**
+	 * @return true if this medium currently accepts several copies of a processing pattern in one
+	 * {@link #pushPatterns(ICraftingPatternDetails, InventoryCrafting, int)} call.
+	 */
+	default boolean canPushMultipleCopies()
+	{
+		return false;
+	}
+
+	/**
+	 * instruct a medium to process several copies of a processing pattern at once. The crafting engine only asks for
+	 * more than one copy if the pattern is not a crafting pattern, and has already taken the inputs for all copies out
+	 * of its storage.
+	 *
+	 * Only called with more than one copy if {@link #canPushMultipleCopies()} is true. By default a single copy is
+	 * pushed through {@link #pushPattern(ICraftingPatternDetails, InventoryCrafting)}.
+	 *
+	 * @param patternDetails details
+	 * @param table inputs of a single copy
+	 * @param copies how many copies to push, at least 1
+	 *
+	 * @return how many copies were pushed, between 0 and copies.
+	 */
+	default int pushPatterns( ICraftingPatternDetails patternDetails, InventoryCrafting table, int copies )
+	{
+		return this.pushPattern( patternDetails, table ) ? 1 : 0;
+	}
+
 	/**
 	 * @return if this is false, the crafting engine will refuse to send new jobs to this medium.
 	 */
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.ItemList;
+
+
+/**
+ * An unlimited storage cell which keeps its items in a plain item list, to measure the network storage itself rather
+ * than the cells attached to it.
+ */
+public class BenchmarkCell implements IMEInventoryHandler<IAEItemStack> {
+
+    private final IStorageChannel<IAEItemStack> channel;
+    private final IItemList<IAEItemStack> items = new ItemList();
+    private final int priority;
+
+    public BenchmarkCell(final IStorageChannel<IAEItemStack> channel, final int priority) {
+        this.channel = channel;
+        this.priority = priority;
+    }
+
+    @Override
+    public IAEItemStack injectItems(final IAEItemStack input, final Actionable type, final IActionSource src) {
+        if (type == Actionable.MODULATE) {
+            this.items.add(input);
+        }
+
+        return null;
+    }
+
+    @Override
+    public IAEItemStack extractItems(final IAEItemStack request, final Actionable mode, final IActionSource src) {
+        final IAEItemStack stored = this.items.findPrecise(request);
+        if (stored == null || !stored.isMeaningful()) {
+            return null;
+        }
+
+        final IAEItemStack extracted = request.copy();
+        extracted.setStackSize(Math.min(request.getStackSize(), stored.getStackSize()));
+
+        if (mode == Actionable.MODULATE) {
+            stored.decStackSize(extracted.getStackSize());
+        }
+
+        return extracted;
+    }
+
+    @Override
+    public IItemList<IAEItemStack> getAvailableItems(final IItemList<IAEItemStack> out) {
+        for (final IAEItemStack is : this.items) {
+            out.add(is);
+        }
+
+        return out;
+    }
+
+    @Override
+    public IStorageChannel<IAEItemStack> getChannel() {
+        return this.channel;
+    }
+
+    @Override
+    public AccessRestriction getAccess() {
+        return AccessRestriction.READ_WRITE;
+    }
+
+    @Override
+    public boolean isPrioritized(final IAEItemStack input) {
+        return false;
+    }
+
+    @Override
+    public boolean canAccept(final IAEItemStack input) {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return this.priority;
+    }
+
+    @Override
+    public int getSlot() {
+        return 0;
+    }
+
+    @Override
+    public boolean validForPass(final int i) {
+        return true;
+    }
+}
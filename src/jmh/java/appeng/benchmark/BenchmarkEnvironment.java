@@ -0,0 +1,106 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.AEApi;
+import appeng.api.networking.pathing.IPathingGrid;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.core.AEConfig;
+import appeng.core.worlddata.WorldData;
+import appeng.me.cache.PathGridCache;
+import net.minecraft.init.Bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+
+
+/**
+ * Sets up just enough of the game to run AE2 code outside of it: the vanilla registries and a default configuration.
+ */
+public final class BenchmarkEnvironment {
+
+    private static boolean initialized = false;
+    private static boolean gridsInitialized = false;
+
+    private BenchmarkEnvironment() {
+    }
+
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+
+        Bootstrap.register();
+
+        try {
+            final File config = File.createTempFile("ae2-benchmark", ".cfg");
+            config.deleteOnExit();
+            AEConfig.init(config);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        initialized = true;
+    }
+
+    /**
+     * Makes grids usable without a running server: only the pathing cache is registered, and grid storages are kept
+     * in the world data of a temporary directory.
+     */
+    public static synchronized void initGrids() {
+        init();
+
+        if (gridsInitialized) {
+            return;
+        }
+
+        AEApi.instance().registries().gridCache().registerGridCache(IPathingGrid.class, PathGridCache.class);
+
+        try {
+            final File world = Files.createTempDirectory("ae2-benchmark-world").toFile();
+            world.deleteOnExit();
+
+            // the world data is only ever created by a starting server.
+            final Constructor<WorldData> constructor = WorldData.class.getDeclaredConstructor(File.class);
+            constructor.setAccessible(true);
+            final Field instance = WorldData.class.getDeclaredField("instance");
+            instance.setAccessible(true);
+            instance.set(null, constructor.newInstance(world));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+
+        gridsInitialized = true;
+    }
+
+    /**
+     * @return the item channel of the api, which is only created on first use as it also creates all blocks and items.
+     */
+    public static IItemStorageChannel itemChannel() {
+        init();
+        return AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
+    }
+}
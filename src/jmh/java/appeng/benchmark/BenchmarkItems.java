@@ -0,0 +1,98 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.item.AEItemStack;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Creates synthetic item stacks from the vanilla registry. Once every item is used, further stacks continue with
+ * higher damage values, and every other stack of damageable items carries a tag, so fuzzy lookups have variants to
+ * look through like on a real network.
+ */
+public final class BenchmarkItems {
+
+    private static List<Item> items;
+
+    private BenchmarkItems() {
+    }
+
+    /**
+     * @return count distinct stacks, each with a stack size of 1.
+     */
+    public static List<IAEItemStack> create(final int count) {
+        final List<Item> items = getItems();
+        final List<IAEItemStack> stacks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final Item item = items.get(i % items.size());
+            final int variant = i / items.size();
+            final ItemStack is = new ItemStack(item, 1, item.isDamageable() ? variant / 2 : variant);
+
+            if (item.isDamageable() && variant % 2 == 1) {
+                final NBTTagCompound tag = new NBTTagCompound();
+                tag.setInteger("benchmark", variant);
+                is.setTagCompound(tag);
+            }
+
+            stacks.add(AEItemStack.fromItemStack(is));
+        }
+
+        return stacks;
+    }
+
+    /**
+     * @return a random selection of the given stacks, which may contain the same stack multiple times.
+     */
+    public static List<IAEItemStack> sample(final List<IAEItemStack> stacks, final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<IAEItemStack> sample = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            sample.add(stacks.get(random.nextInt(stacks.size())));
+        }
+
+        return sample;
+    }
+
+    private static synchronized List<Item> getItems() {
+        if (items == null) {
+            BenchmarkEnvironment.init();
+
+            items = new ArrayList<>();
+            for (final Item item : Item.REGISTRY) {
+                if (item != Items.AIR) {
+                    items.add(item);
+                }
+            }
+        }
+
+        return items;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.sync.packets;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.benchmark.BenchmarkItems;
+import appeng.container.implementations.TerminalItemDictionary;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Encoding and decoding of terminal inventory updates, either as a full list of item definitions or as amounts of items
+ * the viewer already knows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketMEInventoryUpdateBenchmark {
+
+    // the packet id, which the packet handler reads before creating the packet.
+    private static final int HEADER_BYTES = 4;
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<IAEItemStack> stacks;
+    private TerminalItemDictionary dictionary;
+    private List<byte[]> encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        this.stacks = BenchmarkItems.create(this.size);
+        for (int i = 0; i < this.stacks.size(); i++) {
+            this.stacks.get(i).setStackSize(1 + i * 31L);
+        }
+
+        this.dictionary = new TerminalItemDictionary();
+        for (final IAEItemStack is : this.stacks) {
+            this.dictionary.define(is);
+        }
+
+        this.encoded = new ArrayList<>();
+        for (final ByteBuf payload : this.encode(null)) {
+            final byte[] bytes = new byte[payload.readableBytes()];
+            payload.getBytes(payload.readerIndex(), bytes);
+            this.encoded.add(bytes);
+        }
+    }
+
+    @Benchmark
+    public List<ByteBuf> encodeDefinitions() throws IOException {
+        return this.encode(null);
+    }
+
+    @Benchmark
+    public List<ByteBuf> encodeKnownAmounts() throws IOException {
+        return this.encode(this.dictionary);
+    }
+
+    @Benchmark
+    public void decodeDefinitions(final Blackhole bh) throws IOException {
+        for (final byte[] bytes : this.encoded) {
+            bh.consume(new PacketMEInventoryUpdate(Unpooled.wrappedBuffer(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES)));
+        }
+    }
+
+    /**
+     * Splits the stacks into packets the same way the terminal does.
+     */
+    private List<ByteBuf> encode(final TerminalItemDictionary dictionary) throws IOException {
+        final List<ByteBuf> payloads = new ArrayList<>();
+        PacketMEInventoryUpdate packet = this.createPacket(dictionary);
+
+        for (final IAEItemStack is : this.stacks) {
+            try {
+                packet.appendItem(is);
+            } catch (final BufferOverflowException e) {
+                payloads.add(packet.finishPayload());
+                packet = this.createPacket(dictionary);
+                packet.appendItem(is);
+            }
+        }
+
+        if (!packet.isEmpty()) {
+            payloads.add(packet.finishPayload());
+        }
+
+        return payloads;
+    }
+
+    private PacketMEInventoryUpdate createPacket(final TerminalItemDictionary dictionary) throws IOException {
+        return dictionary == null ? new PacketMEInventoryUpdate() : new PacketMEInventoryUpdate(dictionary);
+    }
+}
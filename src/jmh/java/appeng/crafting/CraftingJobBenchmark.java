@@ -0,0 +1,268 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridStorage;
+import appeng.api.networking.crafting.*;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.benchmark.BenchmarkEnvironment;
+import appeng.benchmark.BenchmarkItems;
+import appeng.me.helpers.BaseActionSource;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Crafting calculations for a chain of processing patterns, where each step needs the result of the next one and a
+ * basic ingredient from storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CraftingJobBenchmark {
+
+    private static final int INGREDIENTS = 16;
+    private static final long REQUESTED = 64;
+
+    @Param({"8", "32", "128"})
+    private int depth;
+
+    /**
+     * Whether calculations share the pattern expansions, like they do while the patterns of a grid stay the same.
+     */
+    @Param({"true", "false"})
+    private boolean reuseTemplates;
+
+    private final IActionSource src = new BaseActionSource();
+    private PatternGrid patterns;
+    private IItemList<IAEItemStack> storage;
+    private IAEItemStack target;
+    private CraftingTreeTemplates templates;
+
+    @Setup
+    public void setup() {
+        final List<IAEItemStack> stacks = BenchmarkItems.create(this.depth + 1 + INGREDIENTS);
+        final List<IAEItemStack> chain = stacks.subList(0, this.depth + 1);
+        final List<IAEItemStack> ingredients = stacks.subList(this.depth + 1, stacks.size());
+
+        this.patterns = new PatternGrid();
+        for (int i = 0; i < this.depth; i++) {
+            this.patterns.add(new ChainPattern(chain.get(i), chain.get(i + 1), ingredients.get(i % INGREDIENTS)));
+        }
+
+        this.storage = BenchmarkEnvironment.itemChannel().createList();
+        final IAEItemStack raw = chain.get(this.depth).copy();
+        raw.setStackSize(REQUESTED);
+        this.storage.add(raw);
+
+        for (final IAEItemStack ingredient : ingredients) {
+            final IAEItemStack stored = ingredient.copy();
+            stored.setStackSize(REQUESTED * this.depth);
+            this.storage.add(stored);
+        }
+
+        this.target = chain.get(0).copy();
+        this.target.setStackSize(REQUESTED);
+        this.templates = new CraftingTreeTemplates();
+    }
+
+    @Benchmark
+    public long calculate() {
+        final CraftingTreeTemplates templates = this.reuseTemplates ? this.templates : new CraftingTreeTemplates();
+        final CraftingJob job = new CraftingJob(null, this.patterns, templates, this.storage, this.src, this.target, null);
+
+        // lets the job run without ever pausing for the tick handler.
+        job.simulateFor(Integer.MAX_VALUE);
+        job.calculate();
+
+        if (job.isSimulation()) {
+            throw new IllegalStateException("Crafting chain could not be completed");
+        }
+
+        return job.getByteTotal();
+    }
+
+    /**
+     * Processing pattern turning one of the next item in the chain and one ingredient into one of its output.
+     */
+    private static class ChainPattern implements ICraftingPatternDetails {
+
+        private final IAEItemStack[] inputs;
+        private final IAEItemStack[] outputs;
+        private int priority = 0;
+
+        private ChainPattern(final IAEItemStack output, final IAEItemStack next, final IAEItemStack ingredient) {
+            this.inputs = new IAEItemStack[]{single(next), single(ingredient)};
+            this.outputs = new IAEItemStack[]{single(output)};
+        }
+
+        private static IAEItemStack single(final IAEItemStack is) {
+            final IAEItemStack copy = is.copy();
+            copy.setStackSize(1);
+            return copy;
+        }
+
+        @Override
+        public ItemStack getPattern() {
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public boolean isValidItemForSlot(final int slotIndex, final ItemStack itemStack, final World world) {
+            return true;
+        }
+
+        @Override
+        public boolean isCraftable() {
+            return false;
+        }
+
+        @Override
+        public IAEItemStack[] getInputs() {
+            return this.inputs;
+        }
+
+        @Override
+        public IAEItemStack[] getCondensedInputs() {
+            return this.inputs;
+        }
+
+        @Override
+        public IAEItemStack[] getCondensedOutputs() {
+            return this.outputs;
+        }
+
+        @Override
+        public IAEItemStack[] getOutputs() {
+            return this.outputs;
+        }
+
+        @Override
+        public boolean canSubstitute() {
+            return false;
+        }
+
+        @Override
+        public ItemStack getOutput(final InventoryCrafting craftingInv, final World world) {
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public int getPriority() {
+            return this.priority;
+        }
+
+        @Override
+        public void setPriority(final int priority) {
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Only answers which patterns produce an item, which is all a crafting calculation asks the crafting grid for.
+     */
+    private static class PatternGrid implements ICraftingGrid {
+
+        private final Map<IAEItemStack, ImmutableList<ICraftingPatternDetails>> patterns = new HashMap<>();
+
+        private void add(final ICraftingPatternDetails details) {
+            this.patterns.put(details.getPrimaryOutput(), ImmutableList.of(details));
+        }
+
+        @Override
+        public ImmutableCollection<ICraftingPatternDetails> getCraftingFor(final IAEItemStack whatToCraft, final ICraftingPatternDetails details, final int slot, final World world) {
+            return this.patterns.getOrDefault(whatToCraft, ImmutableList.of());
+        }
+
+        @Override
+        public boolean canEmitFor(final IAEItemStack what) {
+            return false;
+        }
+
+        @Override
+        public boolean isRequesting(final IAEItemStack what) {
+            return false;
+        }
+
+        @Override
+        public long requesting(final IAEItemStack what) {
+            return 0;
+        }
+
+        @Override
+        public ImmutableSet<ICraftingCPU> getCpus() {
+            return ImmutableSet.of();
+        }
+
+        @Override
+        public Future<ICraftingJob> beginCraftingJob(final World world, final IGrid grid, final IActionSource actionSrc, final IAEItemStack craftWhat, final ICraftingCallback callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ICraftingLink submitJob(final ICraftingJob job, final ICraftingRequester requestingMachine, final ICraftingCPU target, final boolean prioritizePower, final IActionSource src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void onUpdateTick() {
+        }
+
+        @Override
+        public void removeNode(@Nonnull final IGridNode gridNode, @Nonnull final IGridHost machine) {
+        }
+
+        @Override
+        public void addNode(@Nonnull final IGridNode gridNode, @Nonnull final IGridHost machine) {
+        }
+
+        @Override
+        public void onSplit(@Nonnull final IGridStorage destinationStorage) {
+        }
+
+        @Override
+        public void onJoin(@Nonnull final IGridStorage sourceStorage) {
+        }
+
+        @Override
+        public void populateGridStorage(@Nonnull final IGridStorage destinationStorage) {
+        }
+    }
+}
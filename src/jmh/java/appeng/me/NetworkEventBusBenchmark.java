@@ -0,0 +1,94 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+
+import appeng.api.networking.events.MENetworkEvent;
+import appeng.api.networking.events.MENetworkEventSubscribe;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+
+/**
+ * An event storm reaching many subscribers, dispatched the way the event bus used to through reflection and through
+ * the invokers it binds now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkEventBusBenchmark {
+
+    private static final int SUBSCRIBERS = 4096;
+
+    private final Subscriber[] subscribers = new Subscriber[SUBSCRIBERS];
+    private final BenchmarkEvent event = new BenchmarkEvent();
+    private Method method;
+    private BiConsumer<Object, MENetworkEvent> invoker;
+
+    @Setup
+    public void setup() throws Throwable {
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            this.subscribers[i] = new Subscriber();
+        }
+
+        this.method = Subscriber.class.getMethod("onEvent", BenchmarkEvent.class);
+        this.invoker = NetworkEventBus.createInvoker(this.method);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SUBSCRIBERS)
+    public void reflection() throws Exception {
+        for (final Subscriber s : this.subscribers) {
+            this.method.invoke(s, this.event);
+            if (this.event.isCanceled()) {
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SUBSCRIBERS)
+    public void boundInvoker() {
+        for (final Subscriber s : this.subscribers) {
+            this.invoker.accept(s, this.event);
+            if (this.event.isCanceled()) {
+                break;
+            }
+        }
+    }
+
+    public static class BenchmarkEvent extends MENetworkEvent {
+    }
+
+    public static class Subscriber {
+
+        private int received;
+
+        @MENetworkEventSubscribe
+        public void onEvent(final BenchmarkEvent e) {
+            this.received++;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+
+import appeng.api.exceptions.FailedConnectionException;
+import appeng.api.networking.*;
+import appeng.api.networking.events.MENetworkBootingStatusChange;
+import appeng.api.networking.events.MENetworkEventSubscribe;
+import appeng.api.networking.pathing.ControllerState;
+import appeng.api.networking.pathing.IPathingGrid;
+import appeng.api.util.AECableType;
+import appeng.api.util.AEColor;
+import appeng.api.util.AEPartLocation;
+import appeng.api.util.DimensionalCoord;
+import appeng.benchmark.BenchmarkEnvironment;
+import appeng.me.cache.PathGridCache;
+import appeng.me.helpers.AENetworkProxy;
+import appeng.tile.networking.TileController;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Field;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A single cable placed on and taken off a large booted network, routed incrementally and with a full repath after
+ * each change. The network is a tree of dense cables below one controller, with a few devices using channels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathGridCacheBenchmark {
+
+    private static final int DEVICES = 16;
+
+    @Param({"1000", "10000"})
+    private int cables;
+
+    private GridNode[] cableNodes;
+    private Device firstDevice;
+    private Grid grid;
+    private PathGridCache pathing;
+    private int bootTicks;
+    private int cursor = 0;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkEnvironment.initGrids();
+
+        final TileController controller = new TileController();
+        final GridNode controllerNode = createNode(controller, EnumSet.of(GridFlags.CANNOT_CARRY, GridFlags.DENSE_CAPACITY));
+
+        // the proxy only creates its node once the tile is placed in a world.
+        final Field proxyNode = AENetworkProxy.class.getDeclaredField("node");
+        proxyNode.setAccessible(true);
+        proxyNode.set(controller.getProxy(), controllerNode);
+
+        this.cableNodes = new GridNode[this.cables];
+        for (int i = 0; i < this.cables; i++) {
+            this.cableNodes[i] = createNode(new Cable(), EnumSet.of(GridFlags.DENSE_CAPACITY));
+            GridConnection.create(i == 0 ? controllerNode : this.cableNodes[(i - 1) / 2], this.cableNodes[i], AEPartLocation.INTERNAL);
+        }
+
+        for (int i = 0; i < DEVICES; i++) {
+            final Device device = new Device();
+            GridConnection.create(this.cableNodes[i * this.cables / DEVICES], createNode(device, EnumSet.of(GridFlags.REQUIRE_CHANNEL)), AEPartLocation.INTERNAL);
+
+            if (this.firstDevice == null) {
+                this.firstDevice = device;
+            }
+        }
+
+        this.grid = controllerNode.getInternalGrid();
+        this.pathing = this.grid.getCache(IPathingGrid.class);
+        this.bootTicks = 22 + Math.max(0, this.grid.getNodes().size() / 100 - 20);
+        this.boot();
+
+        if (this.pathing.getControllerState() != ControllerState.CONTROLLER_ONLINE || this.pathing.getChannelsInUse() != DEVICES) {
+            throw new IllegalStateException("The benchmark network did not come online with all of its channels.");
+        }
+
+        final int boots = this.firstDevice.boots;
+        this.incremental();
+        if (this.firstDevice.boots != boots) {
+            throw new IllegalStateException("Adding and removing a cable fell back to a full repath.");
+        }
+    }
+
+    @Benchmark
+    public void incremental() throws FailedConnectionException {
+        final GridNode cable = this.addCable();
+        this.tick();
+
+        cable.destroy();
+        this.tick();
+    }
+
+    @Benchmark
+    public void repath() throws FailedConnectionException {
+        final GridNode cable = this.addCable();
+        this.pathing.repath();
+        this.boot();
+
+        cable.destroy();
+        this.pathing.repath();
+        this.boot();
+    }
+
+    private GridNode addCable() throws FailedConnectionException {
+        // spread the new cables over the outermost half of the tree.
+        final int leaves = this.cables / 2;
+        final GridNode parent = this.cableNodes[this.cables - 1 - this.cursor++ % leaves];
+
+        final GridNode cable = createNode(new Cable(), EnumSet.noneOf(GridFlags.class));
+        GridConnection.create(parent, cable, AEPartLocation.INTERNAL);
+        return cable;
+    }
+
+    private void boot() {
+        for (int i = 0; i < this.bootTicks; i++) {
+            this.tick();
+        }
+    }
+
+    private void tick() {
+        this.grid.update();
+        this.grid.runTasks(Long.MAX_VALUE);
+    }
+
+    private static GridNode createNode(final IGridHost host, final EnumSet<GridFlags> flags) {
+        final GridNode node = new GridNode(new Block(host, flags));
+        node.updateState();
+        return node;
+    }
+
+    private static class Block implements IGridBlock {
+
+        private final IGridHost host;
+        private final EnumSet<GridFlags> flags;
+
+        private Block(final IGridHost host, final EnumSet<GridFlags> flags) {
+            this.host = host;
+            this.flags = flags;
+        }
+
+        @Override
+        public double getIdlePowerUsage() {
+            return 0;
+        }
+
+        @Nonnull
+        @Override
+        public EnumSet<GridFlags> getFlags() {
+            return this.flags;
+        }
+
+        @Override
+        public boolean isWorldAccessible() {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public DimensionalCoord getLocation() {
+            return new DimensionalCoord((World) null, 0, 0, 0);
+        }
+
+        @Nonnull
+        @Override
+        public AEColor getGridColor() {
+            return AEColor.TRANSPARENT;
+        }
+
+        @Override
+        public void onGridNotification(@Nonnull final GridNotification notification) {
+        }
+
+        @Override
+        public void setNetworkStatus(final IGrid grid, final int channelsInUse) {
+        }
+
+        @Nonnull
+        @Override
+        public EnumSet<EnumFacing> getConnectableSides() {
+            return EnumSet.noneOf(EnumFacing.class);
+        }
+
+        @Nonnull
+        @Override
+        public IGridHost getMachine() {
+            return this.host;
+        }
+
+        @Override
+        public void gridChanged() {
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack getMachineRepresentation() {
+            return ItemStack.EMPTY;
+        }
+    }
+
+    public static class Cable implements IGridHost {
+
+        @Override
+        public IGridNode getGridNode(@Nonnull final AEPartLocation dir) {
+            return null;
+        }
+
+        @Nonnull
+        @Override
+        public AECableType getCableConnectionType(@Nonnull final AEPartLocation dir) {
+            return AECableType.DENSE_COVERED;
+        }
+
+        @Override
+        public void securityBreak() {
+        }
+    }
+
+    public static class Device extends Cable {
+
+        private int boots;
+
+        @MENetworkEventSubscribe
+        public void bootingStatusChanged(final MENetworkBootingStatusChange e) {
+            this.boots++;
+        }
+    }
+}
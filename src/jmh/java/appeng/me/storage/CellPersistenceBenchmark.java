@@ -0,0 +1,125 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.storage.ICellInventory;
+import appeng.api.storage.ISaveProvider;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.benchmark.BenchmarkEnvironment;
+import appeng.benchmark.BenchmarkItems;
+import appeng.core.AEConfig;
+import appeng.me.helpers.BaseActionSource;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompressedStreamTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Saving and loading the contents of a 64k storage cell through {@link AbstractCellInventory}, in the tag per type
+ * layout and in the compact layout. The save benchmarks also report the size the cell takes up compressed, as it
+ * would in a region file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CellPersistenceBenchmark {
+
+    private static final ISaveProvider SAVE_LATER = cellInventory -> {
+    };
+
+    @Param({"1", "63"})
+    private int types;
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private IStorageChannel<IAEItemStack> channel;
+    private ItemStack cell;
+    private AbstractCellInventory<IAEItemStack> inventory;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        this.channel = BenchmarkEnvironment.itemChannel();
+
+        // the layout is a startup option, it can not be changed through the config api.
+        final Field compactCellStorage = AEConfig.class.getDeclaredField("compactCellStorage");
+        compactCellStorage.setAccessible(true);
+        compactCellStorage.setBoolean(AEConfig.instance(), this.compact);
+
+        this.cell = AEApi.instance().definitions().items().cell64k().maybeStack(1).orElseThrow(IllegalStateException::new);
+        this.inventory = (AbstractCellInventory<IAEItemStack>) BasicCellInventory.<IAEItemStack>createInventory(this.cell, SAVE_LATER);
+
+        final List<IAEItemStack> stacks = BenchmarkItems.create(this.types);
+        for (int i = 0; i < stacks.size(); i++) {
+            final IAEItemStack is = stacks.get(i);
+            is.setStackSize(100L * (i + 1));
+
+            if (this.inventory.injectItems(is, Actionable.MODULATE, new BaseActionSource()) != null) {
+                throw new IllegalStateException("The benchmark cell can not hold " + is);
+            }
+        }
+
+        this.inventory.persist();
+    }
+
+    /**
+     * Saving a cell again after its counts changed, the common case while it sits in a drive.
+     */
+    @Benchmark
+    public void persist(final CompressedSize size) {
+        this.inventory.saveChanges();
+        this.inventory.persist();
+    }
+
+    @Benchmark
+    public Object load() {
+        final ICellInventory<IAEItemStack> loaded = BasicCellInventory.createInventory(this.cell, SAVE_LATER);
+        return loaded.getAvailableItems(this.channel.createList());
+    }
+
+    /**
+     * Size of the saved cell after compression, reported next to the save timings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CompressedSize {
+
+        public long compressedBytes;
+
+        @Setup(Level.Iteration)
+        public void measure(final CellPersistenceBenchmark benchmark) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            CompressedStreamTools.writeCompressed(benchmark.cell.getTagCompound(), out);
+            this.compressedBytes = out.size();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.benchmark.BenchmarkCell;
+import appeng.benchmark.BenchmarkEnvironment;
+import appeng.benchmark.BenchmarkItems;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.item.ItemList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Injection into and extraction from the network storage with a growing number of cells, each holding its own set of
+ * item types like a full storage cell.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkInventoryBenchmark {
+
+    private static final int TYPES_PER_CELL = 63;
+    private static final int OPERATIONS = 256;
+
+    @Param({"1", "16", "128"})
+    private int cells;
+
+    private final IActionSource src = new BaseActionSource();
+    private NetworkInventoryHandler<IAEItemStack> network;
+    private List<IAEItemStack> operations;
+
+    @Setup
+    public void setup() {
+        final IStorageChannel<IAEItemStack> channel = BenchmarkEnvironment.itemChannel();
+        final List<IAEItemStack> stacks = BenchmarkItems.create(this.cells * TYPES_PER_CELL);
+
+        // the security cache is only asked for sources with a player or machine.
+        this.network = new NetworkInventoryHandler<>(channel, null);
+
+        for (int i = 0; i < this.cells; i++) {
+            final BenchmarkCell cell = new BenchmarkCell(channel, i % 4);
+            for (final IAEItemStack is : stacks.subList(i * TYPES_PER_CELL, (i + 1) * TYPES_PER_CELL)) {
+                final IAEItemStack stored = is.copy();
+                stored.setStackSize(1_000_000);
+                cell.injectItems(stored, Actionable.MODULATE, this.src);
+            }
+            this.network.addNewStorage(cell);
+        }
+
+        this.operations = BenchmarkItems.sample(stacks, OPERATIONS, 42);
+        for (final IAEItemStack is : this.operations) {
+            is.setStackSize(16);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void injectSimulate(final Blackhole bh) {
+        for (final IAEItemStack is : this.operations) {
+            bh.consume(this.network.injectItems(is, Actionable.SIMULATE, this.src));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void extractSimulate(final Blackhole bh) {
+        for (final IAEItemStack is : this.operations) {
+            bh.consume(this.network.extractItems(is, Actionable.SIMULATE, this.src));
+        }
+    }
+
+    /**
+     * Moves items out and back in, so the stored amounts stay the same between invocations.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void extractAndReinsert(final Blackhole bh) {
+        for (final IAEItemStack is : this.operations) {
+            final IAEItemStack extracted = this.network.extractItems(is, Actionable.MODULATE, this.src);
+            bh.consume(this.network.injectItems(extracted, Actionable.MODULATE, this.src));
+        }
+    }
+
+    @Benchmark
+    public IItemList<IAEItemStack> getAvailableItems() {
+        return this.network.getAvailableItems(new ItemList());
+    }
+}
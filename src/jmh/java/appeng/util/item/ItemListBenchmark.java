@@ -0,0 +1,104 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.benchmark.BenchmarkItems;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Lookups in the item list backing every network inventory and terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemListBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<IAEItemStack> stacks;
+    private List<IAEItemStack> lookups;
+    private ItemList list;
+
+    @Setup
+    public void setup() {
+        this.stacks = BenchmarkItems.create(this.size);
+        this.lookups = BenchmarkItems.sample(this.stacks, LOOKUPS, 42);
+
+        this.list = new ItemList();
+        for (final IAEItemStack is : this.stacks) {
+            this.list.add(is);
+        }
+    }
+
+    @Benchmark
+    public ItemList add() {
+        final ItemList list = new ItemList();
+        for (final IAEItemStack is : this.stacks) {
+            list.add(is);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void findPrecise(final Blackhole bh) {
+        for (final IAEItemStack is : this.lookups) {
+            bh.consume(this.list.findPrecise(is));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void findFuzzyIgnoreAll(final Blackhole bh) {
+        for (final IAEItemStack is : this.lookups) {
+            bh.consume(this.list.findFuzzy(is, FuzzyMode.IGNORE_ALL));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void findFuzzyPercent(final Blackhole bh) {
+        for (final IAEItemStack is : this.lookups) {
+            bh.consume(this.list.findFuzzy(is, FuzzyMode.PERCENT_75));
+        }
+    }
+
+    @Benchmark
+    public int iterate() {
+        int count = 0;
+        for (final IAEItemStack is : this.list) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -23,6 +23,8 @@ import appeng.api.parts.CableRenderMode;
 import appeng.api.util.AEColor;
 import appeng.block.AEBaseBlock;
 import appeng.client.gui.AEBaseGui;
+import appeng.client.render.cablebus.CableBusRenderStats;
+import appeng.client.render.cablebus.CableBusRenderUpdates;
 import appeng.client.render.crafting.ItemEncodedPatternBakedModel;
 import appeng.client.render.effects.*;
 import appeng.client.render.model.UVLModelLoader;
@@ -56,6 +58,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumHand;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
@@ -69,6 +72,7 @@ import net.minecraftforge.fml.client.registry.RenderingRegistry;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.InputEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.lwjgl.input.Mouse;
 
 import java.io.IOException;
@@ -82,6 +86,7 @@ public class ClientHelper extends ServerHelper {
 
     private final EnumMap<ActionKey, KeyBinding> bindings = new EnumMap<>(ActionKey.class);
     private final List<KeyBinding> keyBindings = new ArrayList<>();
+    private final CableBusRenderUpdates cableRenderUpdates = new CableBusRenderUpdates();
 
     @Override
     public void preinit() {
@@ -117,6 +122,21 @@ public class ClientHelper extends ServerHelper {
         HighlighterHandler.tick(event);
     }
 
+    @SubscribeEvent
+    public void debugOverlayEvent(final RenderGameOverlayEvent.Text event) {
+        if (Minecraft.getMinecraft().gameSettings.showDebugInfo) {
+            event.getRight().add(CableBusRenderStats.getSummary());
+            event.getRight().add("AE2 Cable Redraws: " + this.cableRenderUpdates.getQueuedSections() + " sections queued");
+        }
+    }
+
+    @SubscribeEvent
+    public void clientTickEvent(final TickEvent.ClientTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) {
+            this.cableRenderUpdates.flush(Minecraft.getMinecraft().world, AEConfig.instance().getCableRenderUpdatesPerTick());
+        }
+    }
+
     @Override
     public World getWorld() {
         if (Platform.isClient()) {
@@ -220,6 +240,15 @@ public class ClientHelper extends ServerHelper {
         mc.world.markBlockRangeForRenderUpdate(x - range, y - range, z - range, x + range, y + range, z + range);
     }
 
+    @Override
+    public void scheduleRenderUpdate(final World world, final BlockPos pos) {
+        if (world.isRemote) {
+            this.cableRenderUpdates.add(world, pos, Minecraft.getMinecraft().getRenderViewEntity());
+        } else {
+            super.scheduleRenderUpdate(world, pos);
+        }
+    }
+
     @SubscribeEvent
     public void postPlayerRender(final RenderLivingEvent.Pre p) {
         final PlayerColor player = TickHandler.INSTANCE.getPlayerColors().get(p.getEntity().getEntityId());
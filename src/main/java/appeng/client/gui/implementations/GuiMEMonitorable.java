@@ -36,6 +36,7 @@ import appeng.client.me.InternalSlotME;
 import appeng.client.me.ItemRepo;
 import appeng.client.me.SlotME;
 import appeng.container.implementations.ContainerMEMonitorable;
+import appeng.container.implementations.TerminalItemDictionary;
 import appeng.container.slot.AppEngSlot;
 import appeng.container.slot.SlotCraftingMatrix;
 import appeng.container.slot.SlotFakeCraftingMatrix;
@@ -46,6 +47,7 @@ import appeng.core.localization.GuiText;
 import appeng.core.sync.GuiBridge;
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketSwitchGuis;
+import appeng.core.sync.packets.PacketTerminalView;
 import appeng.core.sync.packets.PacketValueConfig;
 import appeng.helpers.WirelessTerminalGuiObject;
 import appeng.integration.Integrations;
@@ -53,6 +55,9 @@ import appeng.parts.reporting.AbstractPartTerminal;
 import appeng.tile.misc.TileSecurityStation;
 import appeng.util.IConfigManagerHost;
 import appeng.util.Platform;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Slot;
@@ -97,6 +102,7 @@ public class GuiMEMonitorable extends AEBaseMEGui implements ISortSource, IConfi
     private int currentMouseX = 0;
     private int currentMouseY = 0;
     private boolean delayedUpdate;
+    private IntSet visibleIds = IntSets.EMPTY_SET;
 
     protected int jeiOffset = Platform.isModLoaded("jei") ? 24 : 0;
 
@@ -385,6 +391,7 @@ public class GuiMEMonitorable extends AEBaseMEGui implements ISortSource, IConfi
         super.onGuiClosed();
         Keyboard.enableRepeatEvents(false);
         memoryText = this.searchField.getText();
+        this.repo.close();
     }
 
     @Override
@@ -503,10 +510,36 @@ public class GuiMEMonitorable extends AEBaseMEGui implements ISortSource, IConfi
         if (!this.delayedUpdate) {
             this.repo.updateView();
             this.setScrollBar();
+            this.reportVisibleItems();
         }
         super.updateScreen();
     }
 
+    /**
+     * Lets the server know which items are on screen, so it can send their changes ahead of the rest.
+     */
+    private void reportVisibleItems() {
+        final TerminalItemDictionary dictionary = this.monitorableContainer.getClientDictionary();
+        final IntSet visible = new IntOpenHashSet();
+
+        for (int idx = 0; idx < this.rows * this.perRow; idx++) {
+            final IAEItemStack is = this.repo.getReferenceItem(idx);
+            if (is == null) {
+                break;
+            }
+
+            final int id = dictionary.getId(is);
+            if (id >= 0) {
+                visible.add(id);
+            }
+        }
+
+        if (!visible.equals(this.visibleIds)) {
+            this.visibleIds = visible;
+            NetworkHandler.instance().sendToServer(new PacketTerminalView(visible));
+        }
+    }
+
     @Override
     public Enum getSortBy() {
         return this.configSrc.getSetting(Settings.SORT_BY);
@@ -31,7 +31,6 @@ import appeng.integration.Integrations;
 import appeng.integration.modules.bogosorter.InventoryBogoSortModule;
 import appeng.items.storage.ItemViewCell;
 import appeng.util.ItemSorters;
-import appeng.util.Platform;
 import appeng.util.prioritylist.IPartitionList;
 import net.minecraft.item.ItemStack;
 
@@ -39,7 +38,6 @@ import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.regex.Pattern;
 
 
 public class ItemRepo {
@@ -64,6 +62,9 @@ public class ItemRepo {
     private boolean resort = true;
     private boolean changed = false;
 
+    private final ItemSearchIndex searchIndex = new ItemSearchIndex();
+    private ItemSearchIndex.Query lastQuery;
+
 
     public ItemRepo(final IScrollSource src, final ISortSource sortSrc) {
         this.src = src;
@@ -125,8 +126,9 @@ public class ItemRepo {
             this.updateJEI(this.searchString);
         }
 
+        boolean searchChanged = false;
         if (!lastSearch.equals(searchString)) {
-            resort = true;
+            searchChanged = true;
             lastSearch = searchString;
         }
 
@@ -143,46 +145,39 @@ public class ItemRepo {
             lastSortDir = sortDir;
         }
 
-        if (changed || resort) {
-            changed = false;
-            resort = false;
-
-            view = new ArrayList<>();
-
-            ItemSorters.setDirection((appeng.api.config.SortDir) sortDir);
-            ItemSorters.init();
-
-            Comparator<IAEItemStack> c = getComparator(sortBy);
+        // items found by their tooltip may have been left out while it was still being indexed.
+        if (this.searchIndex.takeTooltipsAdded() && this.lastQuery != null && this.lastQuery.searchesTooltips()) {
+            changed = true;
+        }
 
-            String innerSearch = searchString.toLowerCase();
+        if (changed || resort || searchChanged) {
+            final boolean terminalSearchToolTips = AEConfig.instance().getConfigManager().getSetting(Settings.SEARCH_TOOLTIPS) != YesNo.NO;
+            final ItemSearchIndex.Query query = ItemSearchIndex.Query.parse(searchString, terminalSearchToolTips);
 
-            final boolean searchMod;
-            if (innerSearch.startsWith("@")) {
-                searchMod = true;
-                innerSearch = innerSearch.substring(1);
+            if (!changed && !resort && query.narrows(this.lastQuery)) {
+                // the view is already filtered and sorted, it only has to lose what no longer matches.
+                this.view.removeIf(is -> !this.searchIndex.matches(is, query));
             } else {
-                searchMod = false;
-            }
+                view = new ArrayList<>();
 
-            final boolean terminalSearchToolTips = AEConfig.instance().getConfigManager().getSetting(Settings.SEARCH_TOOLTIPS) != YesNo.NO;
+                ItemSorters.setDirection((appeng.api.config.SortDir) sortDir);
+                ItemSorters.init();
+
+                Comparator<IAEItemStack> c = getComparator(sortBy);
 
-            Pattern m;
-            try {
-                m = Pattern.compile(innerSearch, Pattern.CASE_INSENSITIVE);
-            } catch (final Throwable ignore) {
-                try {
-                    m = Pattern.compile(Pattern.quote(innerSearch), Pattern.CASE_INSENSITIVE);
-                } catch (final Throwable __) {
-                    return;
+                this.searchIndex.beginFullPass();
+                for (IAEItemStack is : this.list) {
+                    addIAE(is, viewMode, query);
                 }
-            }
+                this.searchIndex.endFullPass();
 
-            String[] innerSearchTerms = innerSearch.split(" ");
-            for (IAEItemStack is : this.list) {
-                addIAE(is, viewMode, innerSearchTerms, searchMod, terminalSearchToolTips, m);
+                view.sort(c);
             }
 
-            view.sort(c);
+            changed = false;
+            resort = false;
+            this.lastQuery = query;
+            this.searchIndex.indexRequestedTooltips();
         }
     }
 
@@ -205,7 +200,7 @@ public class ItemRepo {
         return c;
     }
 
-    private void addIAE(IAEItemStack is, Enum viewMode, String[] terms, boolean searchMod, boolean searchTooltips, Pattern pattern) {
+    private void addIAE(IAEItemStack is, Enum viewMode, ItemSearchIndex.Query query) {
 
         final boolean needsZeroCopy = viewMode == ViewItems.CRAFTABLE;
 
@@ -223,31 +218,7 @@ public class ItemRepo {
             return;
         }
 
-        final String dspName = (searchMod ? Platform.getModId(is) : Platform.getItemDisplayName(is)).toLowerCase();
-        boolean foundMatchingItemStack = true;
-
-        for (String term : terms) {
-            if (term.length() > 1 && (term.startsWith("-") || term.startsWith("!"))) {
-                term = term.substring(1);
-                if (dspName.contains(term)) {
-                    foundMatchingItemStack = false;
-                    break;
-                }
-            } else if (!dspName.contains(term)) {
-                foundMatchingItemStack = false;
-                break;
-            }
-        }
-
-        if (searchTooltips && !foundMatchingItemStack) {
-            final List<String> tooltip = Platform.getTooltip(is);
-            for (final String line : tooltip) {
-                if (pattern.matcher(line).find()) {
-                    foundMatchingItemStack = true;
-                    break;
-                }
-            }
-        }
+        final boolean foundMatchingItemStack = this.searchIndex.matches(is, query);
 
         if (foundMatchingItemStack) {
             if (needsZeroCopy) {
@@ -262,6 +233,13 @@ public class ItemRepo {
         Integrations.jei().setSearchText(filter);
     }
 
+    /**
+     * Stops any background work for the search, the terminal was closed.
+     */
+    public void close() {
+        this.searchIndex.close();
+    }
+
     public int size() {
         return this.view.size();
     }
@@ -0,0 +1,296 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.me;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.core.AELog;
+import appeng.util.Platform;
+import appeng.util.item.AEItemStack;
+import appeng.util.item.OreReference;
+import net.minecraftforge.oredict.OreDictionary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+
+/**
+ * Keeps the searchable text of every item a terminal shows, so typing into the search box only compares cached,
+ * lowercase strings instead of asking each item for its name again.
+ * <p>
+ * Tooltips are expensive to build, they are collected on a background thread the first time a search needs them.
+ * Until an item's tooltip is ready, it can only be found by its name. The terminal searches again once tooltips were
+ * added.
+ */
+public class ItemSearchIndex {
+
+    private static final int TOOLTIP_BATCH = 256;
+    private static final ExecutorService TOOLTIP_INDEXER = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "AE Terminal Search Indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<IAEItemStack, Record> records = new HashMap<>();
+    private final List<Record> missingTooltips = new ArrayList<>();
+    private int pass = 0;
+
+    private volatile boolean closed = false;
+    private volatile boolean tooltipsAdded = false;
+
+    /**
+     * Starts a search over all items, records of items which are not visited until {@link #endFullPass()} are dropped.
+     */
+    void beginFullPass() {
+        this.pass++;
+    }
+
+    void endFullPass() {
+        final int pass = this.pass;
+        this.records.values().removeIf(r -> r.pass != pass);
+    }
+
+    boolean matches(final IAEItemStack is, final Query query) {
+        final Record record = this.records.computeIfAbsent(is, Record::new);
+        record.pass = this.pass;
+
+        if (query.matchesText(record)) {
+            return true;
+        }
+
+        if (query.searchTooltips) {
+            List<String> tooltip = record.tooltip;
+
+            if (tooltip == null) {
+                this.requestTooltip(record);
+                tooltip = record.tooltip;
+            }
+
+            if (tooltip == null) {
+                return false;
+            }
+
+            for (final String line : tooltip) {
+                if (query.pattern.matcher(line).find()) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return true if tooltips were added since the last call, searches including tooltips should be repeated.
+     */
+    boolean takeTooltipsAdded() {
+        if (this.tooltipsAdded) {
+            this.tooltipsAdded = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stops collecting tooltips, the terminal is no longer shown.
+     */
+    void close() {
+        this.closed = true;
+    }
+
+    /**
+     * Hands the tooltips the last searches asked for to the background thread.
+     */
+    void indexRequestedTooltips() {
+        if (this.missingTooltips.isEmpty()) {
+            return;
+        }
+
+        final List<Record> batch = new ArrayList<>(this.missingTooltips);
+        this.missingTooltips.clear();
+
+        TOOLTIP_INDEXER.execute(() -> {
+            for (int i = 0; i < batch.size() && !this.closed; i++) {
+                final Record record = batch.get(i);
+
+                try {
+                    record.tooltip = Platform.getTooltip(record.stack.asItemStackRepresentation());
+                } catch (final Throwable t) {
+                    AELog.debug(t);
+                    record.tooltipFailed = true;
+                }
+
+                if (i % TOOLTIP_BATCH == TOOLTIP_BATCH - 1) {
+                    this.tooltipsAdded = true;
+                }
+            }
+
+            this.tooltipsAdded = true;
+        });
+    }
+
+    private void requestTooltip(final Record record) {
+        if (record.tooltipFailed) {
+            // some items can only build their tooltip on the client thread.
+            record.tooltip = Platform.getTooltip(record.stack.asItemStackRepresentation());
+        } else if (!record.tooltipRequested) {
+            record.tooltipRequested = true;
+            this.missingTooltips.add(record);
+        }
+    }
+
+    private static final class Record {
+
+        private final IAEItemStack stack;
+        private final String name;
+        private final String modId;
+        private final String[] ores;
+
+        private volatile List<String> tooltip;
+        private volatile boolean tooltipFailed;
+        private boolean tooltipRequested;
+        private int pass;
+
+        private Record(final IAEItemStack is) {
+            this.stack = is.copy();
+            this.name = Platform.getItemDisplayName(is).toLowerCase(Locale.ROOT);
+            this.modId = Platform.getModId(is).toLowerCase(Locale.ROOT);
+            this.ores = ((AEItemStack) is).getOre()
+                    .map(OreReference::getOres)
+                    .map(ids -> ids.stream().map(id -> OreDictionary.getOreName(id).toLowerCase(Locale.ROOT)).toArray(String[]::new))
+                    .orElse(new String[0]);
+        }
+    }
+
+    /**
+     * A parsed search box text. Terms prefixed with {@code -} or {@code !} exclude items, a leading {@code @} searches
+     * mod ids and a leading {@code $} ore dictionary names instead of item names.
+     */
+    static final class Query {
+
+        private static final Pattern REGEX_SYNTAX = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+        private final String text;
+        private final SearchTarget target;
+        private final String[] terms;
+        private final Pattern pattern;
+        private final boolean searchTooltips;
+
+        private Query(final String text, final SearchTarget target, final Pattern pattern, final boolean searchTooltips) {
+            this.text = text;
+            this.target = target;
+            this.terms = text.split(" ");
+            this.pattern = pattern;
+            this.searchTooltips = searchTooltips;
+        }
+
+        static Query parse(final String search, final boolean searchTooltips) {
+            String text = search.toLowerCase(Locale.ROOT);
+
+            final SearchTarget target;
+            if (text.startsWith("@")) {
+                target = SearchTarget.MOD;
+                text = text.substring(1);
+            } else if (text.startsWith("$")) {
+                target = SearchTarget.ORE;
+                text = text.substring(1);
+            } else {
+                target = SearchTarget.NAME;
+            }
+
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(text, Pattern.CASE_INSENSITIVE);
+            } catch (final Throwable ignore) {
+                pattern = Pattern.compile(Pattern.quote(text), Pattern.CASE_INSENSITIVE);
+            }
+
+            return new Query(text, target, pattern, searchTooltips);
+        }
+
+        boolean searchesTooltips() {
+            return this.searchTooltips;
+        }
+
+        /**
+         * @return true if this query can only match items the previous one matched as well, e.g. because more text was
+         * typed, so it is enough to filter the previous results.
+         */
+        boolean narrows(final Query previous) {
+            if (previous == null || previous.target != this.target || previous.searchTooltips != this.searchTooltips) {
+                return false;
+            }
+
+            if (!this.text.startsWith(previous.text)) {
+                return false;
+            }
+
+            // extending an exclusion makes it match fewer items, so more would be shown.
+            for (final String term : previous.terms) {
+                if (term.startsWith("-") || term.startsWith("!")) {
+                    return false;
+                }
+            }
+
+            // a longer regular expression does not necessarily match less.
+            return !this.searchTooltips || !REGEX_SYNTAX.matcher(this.text).find();
+        }
+
+        private boolean matchesText(final Record record) {
+            for (String term : this.terms) {
+                if (term.length() > 1 && (term.startsWith("-") || term.startsWith("!"))) {
+                    term = term.substring(1);
+                    if (this.contains(record, term)) {
+                        return false;
+                    }
+                } else if (!this.contains(record, term)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean contains(final Record record, final String term) {
+            switch (this.target) {
+                case MOD:
+                    return record.modId.contains(term);
+                case ORE:
+                    for (final String ore : record.ores) {
+                        if (ore.contains(term)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                default:
+                    return record.name.contains(term);
+            }
+        }
+    }
+
+    private enum SearchTarget {
+        NAME, MOD, ORE
+    }
+}
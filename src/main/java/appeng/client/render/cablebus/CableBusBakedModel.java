@@ -24,9 +24,8 @@ import appeng.api.parts.IPartModel;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
 import appeng.block.networking.BlockCableBus;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.cache.Weigher;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
@@ -42,7 +41,6 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.client.MinecraftForgeClient;
 import net.minecraftforge.common.property.IExtendedBlockState;
 
-import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.Map.Entry;
@@ -60,7 +58,10 @@ public class CableBusBakedModel implements IBakedModel {
 
     private final TextureMap textureMap = Minecraft.getMinecraft().getTextureMapBlocks();
 
-    private final LoadingCache<CableBusRenderState, List<BakedQuad>> cableModelCache;
+    private final Cache<CableQuadKey, List<BakedQuad>> cableModelCache;
+
+    // Part models hand out the same quad lists every time, so their rotated copies are looked up by identity.
+    private final EnumMap<EnumFacing, Cache<List<BakedQuad>, List<BakedQuad>>> rotatedPartQuads = new EnumMap<>(EnumFacing.class);
 
     CableBusBakedModel(CableBuilder cableBuilder, FacadeBuilder facadeBuilder, Map<ResourceLocation, IBakedModel> partModels, TextureAtlasSprite particleTexture) {
         this.cableBuilder = cableBuilder;
@@ -69,15 +70,12 @@ public class CableBusBakedModel implements IBakedModel {
         this.particleTexture = particleTexture;
         this.cableModelCache = CacheBuilder.newBuilder()
                 .maximumWeight(5000)
-                .weigher((Weigher<CableBusRenderState, List<BakedQuad>>) (k, v) -> v.size())
-                .build(new CacheLoader<>() {
-                    @Override
-                    public List<BakedQuad> load(@Nonnull CableBusRenderState rs) {
-                        final List<BakedQuad> model = new ArrayList<>();
-                        addCableQuads(rs, model);
-                        return model;
-                    }
-                });
+                .weigher((Weigher<CableQuadKey, List<BakedQuad>>) (k, v) -> v.size())
+                .build();
+
+        for (EnumFacing facing : EnumFacing.values()) {
+            this.rotatedPartQuads.put(facing, CacheBuilder.newBuilder().weakKeys().maximumSize(1000).build());
+        }
     }
 
     @Override
@@ -98,7 +96,7 @@ public class CableBusBakedModel implements IBakedModel {
         if (layer == BlockRenderLayer.CUTOUT) {
 
             // First, handle the cable at the center of the cable bus
-            final List<BakedQuad> cableModel = cableModelCache.getUnchecked(renderState);
+            final List<BakedQuad> cableModel = this.getCableQuads(renderState);
             quads.addAll(cableModel);
 
             // Then handle attachments
@@ -123,10 +121,7 @@ public class CableBusBakedModel implements IBakedModel {
                     }
 
                     // Rotate quads accordingly
-                    QuadRotator rotator = new QuadRotator();
-                    partQuads = rotator.rotateQuads(partQuads, facing, EnumFacing.UP);
-
-                    quads.addAll(partQuads);
+                    quads.addAll(this.getRotatedQuads(partQuads, facing));
                 }
             }
         }
@@ -135,6 +130,41 @@ public class CableBusBakedModel implements IBakedModel {
         return quads;
     }
 
+    private List<BakedQuad> getCableQuads(CableBusRenderState renderState) {
+        final CableQuadKey key = renderState.getCableQuadKey();
+
+        List<BakedQuad> model = this.cableModelCache.getIfPresent(key);
+        if (model != null) {
+            CableBusRenderStats.CABLE_QUADS.hit();
+            return model;
+        }
+
+        CableBusRenderStats.CABLE_QUADS.miss();
+        model = new ArrayList<>();
+        this.addCableQuads(renderState, model);
+        this.cableModelCache.put(key, model);
+        return model;
+    }
+
+    private List<BakedQuad> getRotatedQuads(List<BakedQuad> quads, EnumFacing facing) {
+        if (facing == EnumFacing.NORTH) {
+            return quads; // Default orientation, nothing to rotate
+        }
+
+        final Cache<List<BakedQuad>, List<BakedQuad>> cache = this.rotatedPartQuads.get(facing);
+
+        List<BakedQuad> rotated = cache.getIfPresent(quads);
+        if (rotated != null) {
+            CableBusRenderStats.PART_QUADS.hit();
+            return rotated;
+        }
+
+        CableBusRenderStats.PART_QUADS.miss();
+        rotated = new QuadRotator().rotateQuads(quads, facing, EnumFacing.UP);
+        cache.put(quads, rotated);
+        return rotated;
+    }
+
     // Determines whether a cable is connected to exactly two sides that are opposite each other
     private static boolean isStraightLine(AECableType cableType, EnumMap<EnumFacing, AECableType> sides) {
         final Iterator<Entry<EnumFacing, AECableType>> it = sides.entrySet().iterator();
@@ -77,6 +77,9 @@ public class CableBusRenderState {
 
     private final EnumMap<EnumFacing, Long> partFlags = new EnumMap<>(EnumFacing.class);
 
+    // Built on first use, render states are not changed anymore once they are handed to the model.
+    private CableQuadKey cableQuadKey;
+
     public CableCoreType getCoreType() {
         return this.coreType;
     }
@@ -142,7 +145,10 @@ public class CableBusRenderState {
     }
 
     public void setWorld(IBlockAccess world) {
-        this.world = new WeakReference<>(world);
+        // the bus hands out the same state for every rebuild, so most of the time this is the same world already
+        if (this.world == null || this.world.get() != world) {
+            this.world = new WeakReference<>(world);
+        }
     }
 
     public BlockPos getPos() {
@@ -161,6 +167,14 @@ public class CableBusRenderState {
         return this.partFlags;
     }
 
+    CableQuadKey getCableQuadKey() {
+        CableQuadKey key = this.cableQuadKey;
+        if (key == null) {
+            key = this.cableQuadKey = CableQuadKey.of(this);
+        }
+        return key;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render.cablebus;
+
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Hit and miss counters of the caches used while building cable bus models, shown on the F3 screen to help with tuning
+ * them. Chunk rebuilds run on several threads, hence the adders.
+ */
+public final class CableBusRenderStats {
+
+    /**
+     * Render states reused by a cable bus instead of being rebuilt.
+     */
+    public static final Counter RENDER_STATES = new Counter();
+
+    /**
+     * Cable quads found in the cable model cache.
+     */
+    public static final Counter CABLE_QUADS = new Counter();
+
+    /**
+     * Rotated part and facade stilt quads found in their caches.
+     */
+    public static final Counter PART_QUADS = new Counter();
+
+    private CableBusRenderStats() {
+    }
+
+    public static String getSummary() {
+        return "AE2 Cable Models: states " + RENDER_STATES + ", cables " + CABLE_QUADS + ", parts " + PART_QUADS;
+    }
+
+    public static final class Counter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private Counter() {
+        }
+
+        public void hit() {
+            this.hits.increment();
+        }
+
+        public void miss() {
+            this.misses.increment();
+        }
+
+        /**
+         * @return the share of lookups which were hits, between 0 and 1.
+         */
+        public double getHitRate() {
+            final long hits = this.hits.sum();
+            final long lookups = hits + this.misses.sum();
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return (int) (this.getHitRate() * 100) + "% of " + (this.hits.sum() + this.misses.sum());
+        }
+    }
+}
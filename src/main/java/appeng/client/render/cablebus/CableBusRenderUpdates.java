@@ -0,0 +1,134 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.client.render.cablebus;
+
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.Iterator;
+
+
+/**
+ * Collects the block updates of cable buses on the client and hands them to the renderer one chunk section at a time.
+ * A network rebooting changes the channels shown on every cable at once, which otherwise has all chunks full of cables
+ * rebuild in the same frame.
+ * <p>
+ * Sections next to the viewer are updated right away, so placing or breaking things still shows immediately. The
+ * others are flushed in the order they were queued, a limited number per tick.
+ */
+public final class CableBusRenderUpdates {
+
+    /**
+     * Sections at most this far from the one the viewer is in are never held back.
+     */
+    private static final int NEAR_SECTIONS = 1;
+
+    private final Long2ObjectLinkedOpenHashMap<Section> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private World world;
+
+    /**
+     * @param viewer the entity the world is rendered for, or null to queue the update in any case
+     */
+    public void add(final World world, final BlockPos pos, final Entity viewer) {
+        if (world != this.world) {
+            this.sections.clear();
+            this.world = world;
+        }
+
+        if (viewer != null && isNear(viewer, pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4)) {
+            world.markBlockRangeForRenderUpdate(pos, pos);
+            return;
+        }
+
+        final long key = new BlockPos(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4).toLong();
+        final Section section = this.sections.get(key);
+        if (section == null) {
+            this.sections.put(key, new Section(pos));
+        } else {
+            section.include(pos);
+        }
+    }
+
+    /**
+     * Passes the queued updates of up to the given number of sections on to the renderer.
+     *
+     * @param maxSections the number of sections to update, 0 or less for all of them
+     */
+    public void flush(final World world, final int maxSections) {
+        if (world != this.world) {
+            this.sections.clear();
+            this.world = world;
+            return;
+        }
+
+        int flushed = 0;
+        final Iterator<Section> it = this.sections.values().iterator();
+        while (it.hasNext() && (maxSections <= 0 || flushed < maxSections)) {
+            it.next().markForRenderUpdate(world);
+            it.remove();
+            flushed++;
+        }
+    }
+
+    public int getQueuedSections() {
+        return this.sections.size();
+    }
+
+    private static boolean isNear(final Entity viewer, final int sectionX, final int sectionY, final int sectionZ) {
+        return Math.abs(((int) Math.floor(viewer.posX) >> 4) - sectionX) <= NEAR_SECTIONS
+                && Math.abs(((int) Math.floor(viewer.posY) >> 4) - sectionY) <= NEAR_SECTIONS
+                && Math.abs(((int) Math.floor(viewer.posZ) >> 4) - sectionZ) <= NEAR_SECTIONS;
+    }
+
+    /**
+     * The box around all updated blocks of one section, so the renderer still only touches the neighbouring sections
+     * of blocks on its border.
+     */
+    private static final class Section {
+        private int minX;
+        private int minY;
+        private int minZ;
+        private int maxX;
+        private int maxY;
+        private int maxZ;
+
+        private Section(final BlockPos pos) {
+            this.minX = this.maxX = pos.getX();
+            this.minY = this.maxY = pos.getY();
+            this.minZ = this.maxZ = pos.getZ();
+        }
+
+        private void include(final BlockPos pos) {
+            this.minX = Math.min(this.minX, pos.getX());
+            this.minY = Math.min(this.minY, pos.getY());
+            this.minZ = Math.min(this.minZ, pos.getZ());
+            this.maxX = Math.max(this.maxX, pos.getX());
+            this.maxY = Math.max(this.maxY, pos.getY());
+            this.maxZ = Math.max(this.maxZ, pos.getZ());
+        }
+
+        private void markForRenderUpdate(final World world) {
+            world.markBlockRangeForRenderUpdate(this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render.cablebus;
+
+
+import appeng.api.parts.IPartModel;
+import appeng.api.util.AECableType;
+import net.minecraft.util.EnumFacing;
+
+import java.util.Arrays;
+
+
+/**
+ * Everything {@link CableBusBakedModel} needs to build the cable quads of a {@link CableBusRenderState}, packed into a
+ * few ints with the hash computed once. Parts and facades do not change the cable itself, so buses only differing in
+ * those share their cable quads.
+ */
+final class CableQuadKey {
+
+    private static final int PER_SIDE = 4;
+
+    private final int[] data;
+    private final int hash;
+
+    private CableQuadKey(final int[] data) {
+        this.data = data;
+        this.hash = Arrays.hashCode(data);
+    }
+
+    static CableQuadKey of(final CableBusRenderState rs) {
+        final int[] data = new int[1 + EnumFacing.VALUES.length * PER_SIDE];
+
+        final boolean noAttachments = rs.getAttachments().values().stream().noneMatch(IPartModel::requireCableConnection);
+        data[0] = rs.getCableType().ordinal()
+                | rs.getCableColor().ordinal() << 4
+                | (rs.getCoreType() == null ? 0 : rs.getCoreType().ordinal() + 1) << 10
+                | (noAttachments ? 1 : 0) << 14;
+
+        for (final EnumFacing facing : EnumFacing.VALUES) {
+            final int i = 1 + facing.ordinal() * PER_SIDE;
+            final AECableType connection = rs.getConnectionTypes().get(facing);
+            final Integer channels = rs.getChannelsOnSide().get(facing);
+            final Integer attachment = rs.getAttachmentConnections().get(facing);
+
+            data[i] = connection == null ? 0 : connection.ordinal() + 1;
+            data[i + 1] = rs.getCableBusAdjacent().contains(facing) ? 1 : 0;
+            data[i + 2] = channels == null ? -1 : channels;
+            data[i + 3] = attachment == null ? -1 : attachment;
+        }
+
+        return new CableQuadKey(data);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CableQuadKey)) {
+            return false;
+        }
+
+        final CableQuadKey other = (CableQuadKey) obj;
+        return this.hash == other.hash && Arrays.equals(this.data, other.data);
+    }
+}
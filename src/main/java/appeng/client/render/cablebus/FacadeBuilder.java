@@ -45,6 +45,7 @@ import net.minecraftforge.client.ForgeHooksClient;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 
@@ -93,6 +94,9 @@ public class FacadeBuilder {
     );
     private final ThreadLocal<Quad> collectors = ThreadLocal.withInitial(Quad::new);
 
+    // The stilt under a facade looks the same on every bus, only rotated, so it is built once per side.
+    private final AtomicReferenceArray<List<BakedQuad>> stiltQuads = new AtomicReferenceArray<>(EnumFacing.VALUES.length);
+
     public void buildFacadeQuads(BlockRenderLayer layer, CableBusRenderState renderState, long rand, List<BakedQuad> quads, Function<ResourceLocation, IBakedModel> modelLookup) {
         BakedPipeline pipeline = this.pipelines.get();
         Quad collectorQuad = this.collectors.get();
@@ -111,11 +115,7 @@ public class FacadeBuilder {
             FacadeRenderState facadeRenderState = entry.getValue();
             boolean renderStilt = !sidesWithParts.contains(side);
             if (layer == BlockRenderLayer.CUTOUT && renderStilt) {
-                for (ResourceLocation part : PartCableAnchor.FACADE_MODELS.getModels()) {
-                    IBakedModel partModel = modelLookup.apply(part);
-                    QuadRotator rotator = new QuadRotator();
-                    quads.addAll(rotator.rotateQuads(gatherQuads(partModel, null, rand), side, EnumFacing.UP));
-                }
+                quads.addAll(this.getStiltQuads(side, rand, modelLookup));
             }
             // If we are forcing transparency and this isn't the Translucent layer.
             if (transparent && layer != BlockRenderLayer.TRANSLUCENT) {
@@ -274,6 +274,25 @@ public class FacadeBuilder {
         }
     }
 
+    private List<BakedQuad> getStiltQuads(EnumFacing side, long rand, Function<ResourceLocation, IBakedModel> modelLookup) {
+        List<BakedQuad> quads = this.stiltQuads.get(side.ordinal());
+        if (quads != null) {
+            CableBusRenderStats.PART_QUADS.hit();
+            return quads;
+        }
+
+        CableBusRenderStats.PART_QUADS.miss();
+        quads = new ArrayList<>();
+        for (ResourceLocation part : PartCableAnchor.FACADE_MODELS.getModels()) {
+            IBakedModel partModel = modelLookup.apply(part);
+            QuadRotator rotator = new QuadRotator();
+            quads.addAll(rotator.rotateQuads(gatherQuads(partModel, null, rand), side, EnumFacing.UP));
+        }
+
+        this.stiltQuads.set(side.ordinal(), quads);
+        return quads;
+    }
+
     /**
      * This is slow, so should be cached.
      *
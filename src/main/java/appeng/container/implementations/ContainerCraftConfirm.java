@@ -41,6 +41,7 @@ import appeng.container.AEBaseContainer;
 import appeng.container.guisync.GuiSync;
 import appeng.container.interfaces.IInventorySlotAware;
 import appeng.core.AELog;
+import appeng.core.localization.PlayerMessages;
 import appeng.core.sync.GuiBridge;
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
@@ -178,7 +179,13 @@ public class ContainerCraftConfirm extends AEBaseContainer {
 
         super.detectAndSendChanges();
 
-        if (this.getJob() != null && this.getJob().isDone()) {
+        if (this.getJob() != null && this.getJob().isCancelled()) {
+            // only the scheduler cancels a job while this is open, when a newer request for the same item replaced it.
+            this.getPlayerInv().player.sendMessage(PlayerMessages.CraftingCalculationSuperseded.get());
+            this.setValidContainer(false);
+            this.result = null;
+            this.setJob(null);
+        } else if (this.getJob() != null && this.getJob().isDone()) {
             try {
                 this.result = this.getJob().get();
 
@@ -49,6 +49,7 @@ import appeng.container.guisync.GuiSync;
 import appeng.container.slot.SlotPlayerHotBar;
 import appeng.container.slot.SlotPlayerInv;
 import appeng.container.slot.SlotRestrictedInput;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
@@ -58,6 +59,7 @@ import appeng.me.helpers.ChannelPowerSrc;
 import appeng.util.ConfigManager;
 import appeng.util.IConfigManagerHost;
 import appeng.util.Platform;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.entity.player.InventoryPlayer;
@@ -70,7 +72,9 @@ import net.minecraftforge.items.IItemHandler;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.nio.BufferOverflowException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 public class ContainerMEMonitorable extends AEBaseContainer implements IConfigManagerHost, IConfigurableObject, IMEMonitorHandlerReceiver<IAEItemStack> {
@@ -80,6 +84,8 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
     public final IItemList<IAEItemStack> items = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     private final IConfigManager clientCM;
     private final ITerminalHost host;
+    private final Map<IContainerListener, TerminalViewer> viewers = new HashMap<>();
+    private final TerminalItemDictionary clientDictionary = new TerminalItemDictionary();
     @GuiSync(99)
     public boolean canAccessViewCells = false;
     @GuiSync(98)
@@ -238,33 +244,9 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
                 }
             }
 
-            if (!this.items.isEmpty()) {
-                try {
-                    final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
-
-                    final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
-
-                    for (final IAEItemStack is : this.items) {
-                        final IAEItemStack send = monitorCache.findPrecise(is);
-                        if (send == null) {
-                            is.setStackSize(0);
-                            piu.appendItem(is);
-                        } else {
-                            piu.appendItem(send);
-                        }
-                    }
-
-                    if (!piu.isEmpty()) {
-                        this.items.resetStatus();
-
-                        for (final Object c : this.listeners) {
-                            if (c instanceof EntityPlayer) {
-                                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
-                            }
-                        }
-                    }
-                } catch (final IOException e) {
-                    AELog.debug(e);
+            for (final IContainerListener c : this.listeners) {
+                if (c instanceof EntityPlayer) {
+                    this.updateViewer(c, this.getViewer(c));
                 }
             }
 
@@ -319,10 +301,90 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
         this.queueInventory(c);
     }
 
+    /**
+     * Sends the changes collected for one viewer once its update interval elapsed. Changes to items the viewer knows
+     * but does not currently see are held back for the longer hidden interval, unless they scroll into view first.
+     */
+    private void updateViewer(final IContainerListener c, final TerminalViewer viewer) {
+        final AEConfig config = AEConfig.instance();
+        viewer.ticksSinceUpdate++;
+        viewer.ticksSinceHiddenUpdate++;
+
+        if (viewer.ticksSinceUpdate < config.getTerminalUpdateInterval()) {
+            return;
+        }
+
+        final boolean sendHidden = viewer.ticksSinceHiddenUpdate >= config.getTerminalHiddenUpdateInterval();
+        final boolean deferHidden = config.isTerminalVisibleUpdatesFirst() && viewer.visibleIds != null && !sendHidden;
+
+        if (viewer.pending.isEmpty() && (viewer.hidden.isEmpty() || (deferHidden && !viewer.visibilityChanged))) {
+            return;
+        }
+
+        try {
+            final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
+            PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate(viewer.dictionary);
+
+            for (final IAEItemStack is : viewer.pending) {
+                if (deferHidden && !viewer.isVisible(is)) {
+                    viewer.hidden.add(is);
+                } else {
+                    piu = this.appendChange(c, viewer, piu, monitorCache, is);
+                }
+            }
+
+            if (!deferHidden || viewer.visibilityChanged) {
+                for (final IAEItemStack is : viewer.hidden) {
+                    if (!deferHidden || viewer.isVisible(is)) {
+                        piu = this.appendChange(c, viewer, piu, monitorCache, is);
+                        is.reset();
+                    }
+                }
+            }
+
+            if (!piu.isEmpty()) {
+                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+            }
+        } catch (final IOException e) {
+            AELog.debug(e);
+        }
+
+        viewer.pending.resetStatus();
+        viewer.visibilityChanged = false;
+        viewer.ticksSinceUpdate = 0;
+        if (!deferHidden) {
+            viewer.hidden.resetStatus();
+            viewer.ticksSinceHiddenUpdate = 0;
+        }
+    }
+
+    private PacketMEInventoryUpdate appendChange(final IContainerListener c, final TerminalViewer viewer, PacketMEInventoryUpdate piu, final IItemList<IAEItemStack> monitorCache, final IAEItemStack is) throws IOException {
+        IAEItemStack send = monitorCache.findPrecise(is);
+        if (send == null) {
+            send = is.copy();
+            send.setStackSize(0);
+        }
+
+        try {
+            piu.appendItem(send);
+        } catch (final BufferOverflowException boe) {
+            NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+
+            piu = new PacketMEInventoryUpdate(viewer.dictionary);
+            piu.appendItem(send);
+        }
+
+        return piu;
+    }
+
     private void queueInventory(final IContainerListener c) {
         if (Platform.isServer() && c instanceof EntityPlayer && this.monitor != null) {
             try {
-                PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+                final TerminalViewer viewer = this.getViewer(c);
+                final TerminalItemDictionary dictionary = viewer.dictionary;
+                viewer.pending.resetStatus();
+                viewer.hidden.resetStatus();
+                PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate(dictionary);
                 final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
 
                 for (final IAEItemStack send : monitorCache) {
@@ -331,7 +393,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
                     } catch (final BufferOverflowException boe) {
                         NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
 
-                        piu = new PacketMEInventoryUpdate();
+                        piu = new PacketMEInventoryUpdate(dictionary);
                         piu.appendItem(send);
                     }
                 }
@@ -343,9 +405,25 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
         }
     }
 
+    private TerminalViewer getViewer(final IContainerListener c) {
+        return this.viewers.computeIfAbsent(c, listener -> new TerminalViewer());
+    }
+
+    /**
+     * Called with the ids of the items a viewer's terminal currently shows.
+     */
+    public void setVisibleIds(final EntityPlayer player, final IntSet visibleIds) {
+        final TerminalViewer viewer = this.viewers.get(player);
+        if (viewer != null) {
+            viewer.visibleIds = visibleIds;
+            viewer.visibilityChanged = true;
+        }
+    }
+
     @Override
     public void removeListener(final IContainerListener c) {
         super.removeListener(c);
+        this.viewers.remove(c);
 
         if (this.listeners.isEmpty() && this.monitor != null) {
             this.monitor.removeListener(this);
@@ -367,8 +445,10 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 
     @Override
     public void postChange(final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> change, final IActionSource source) {
-        for (final IAEItemStack is : change) {
-            this.items.add(is);
+        for (final TerminalViewer viewer : this.viewers.values()) {
+            for (final IAEItemStack is : change) {
+                viewer.pending.add(is);
+            }
         }
     }
 
@@ -428,10 +508,35 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
         return items;
     }
 
+    public TerminalItemDictionary getClientDictionary() {
+        return this.clientDictionary;
+    }
+
     public void postUpdate(final List<IAEItemStack> list) {
         for (final IAEItemStack is : list) {
             this.items.add(is);
         }
         ((GuiMEMonitorable) this.gui).postUpdate(list);
     }
+
+    /**
+     * Server side state of one player looking at this terminal.
+     */
+    private static class TerminalViewer {
+        private final TerminalItemDictionary dictionary = new TerminalItemDictionary();
+        private final IItemList<IAEItemStack> pending = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        private final IItemList<IAEItemStack> hidden = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        private IntSet visibleIds;
+        private boolean visibilityChanged;
+        private int ticksSinceUpdate;
+        private int ticksSinceHiddenUpdate;
+
+        /**
+         * Items the client does not know yet are always treated as visible, they might sort into view.
+         */
+        private boolean isVisible(final IAEItemStack is) {
+            final int id = this.dictionary.getId(is);
+            return id < 0 || this.visibleIds.contains(id);
+        }
+    }
 }
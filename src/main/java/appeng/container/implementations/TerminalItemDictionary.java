@@ -0,0 +1,106 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.container.implementations;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+
+/**
+ * The item definitions a terminal client currently knows, by the id they were sent with.
+ * <p>
+ * The server keeps one per viewer and the client one per open terminal. A definition is sent once, later updates only
+ * carry the amounts, until the stack is no longer meaningful and both sides forget it.
+ */
+public class TerminalItemDictionary {
+
+    private final Object2IntMap<IAEItemStack> ids = new Object2IntOpenHashMap<>();
+    private final Int2ObjectMap<IAEItemStack> definitions = new Int2ObjectOpenHashMap<>();
+    private int nextId = 0;
+
+    public TerminalItemDictionary() {
+        this.ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return the id the client knows this kind of item by, or -1 if its definition has to be sent or was never
+     * received.
+     */
+    public int getId(final IAEItemStack is) {
+        return this.ids.getInt(is);
+    }
+
+    /**
+     * @return the id the next definition will get.
+     */
+    public int getNextId() {
+        return this.nextId;
+    }
+
+    /**
+     * Server side, remembers that the client received the definition of this kind of item.
+     */
+    public int define(final IAEItemStack is) {
+        final int id = this.nextId++;
+        this.ids.put(is, id);
+        return id;
+    }
+
+    /**
+     * Server side, forgets the definition once the client no longer shows the stack.
+     */
+    public void forget(final IAEItemStack is) {
+        this.ids.removeInt(is);
+    }
+
+    /**
+     * Client side, stores a definition received from the server.
+     */
+    public void putDefinition(final int id, final IAEItemStack is) {
+        final IAEItemStack definition = is.copy();
+        final IAEItemStack previous = this.definitions.put(id, definition);
+        if (previous != null) {
+            this.ids.removeInt(previous);
+        }
+        this.ids.put(definition, id);
+    }
+
+    /**
+     * Client side.
+     *
+     * @return the definition received with the given id, or null if it is unknown.
+     */
+    public IAEItemStack getDefinition(final int id) {
+        return this.definitions.get(id);
+    }
+
+    /**
+     * Client side, forgets the definition once the stack is no longer shown.
+     */
+    public void removeDefinition(final int id) {
+        final IAEItemStack definition = this.definitions.remove(id);
+        if (definition != null) {
+            this.ids.removeInt(definition);
+        }
+    }
+}
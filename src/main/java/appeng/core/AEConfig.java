@@ -81,10 +81,19 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     private boolean useColoredCraftingStatus;
     private boolean disableColoredCableRecipesInJEI = true;
     private int craftingCalculationTimePerTick = 5;
+    private int craftingCalculationThreads = Math.min(4, Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+    private int storageBusSlotsPerTick = 512;
+    private boolean compactCellStorage = false;
+    private int gridUpdateBudget = 20;
+    private int channelUpdateRange = 0;
+    private int terminalUpdateInterval = 5;
+    private int terminalHiddenUpdateInterval = 40;
+    private boolean terminalVisibleUpdatesFirst = true;
     private PowerUnits selectedPowerUnit = PowerUnits.AE;
     private boolean showCraftableTooltip = true;
     private boolean showPlacementPreview = true;
     private boolean showCellContentsPreview = true;
+    private int cableRenderUpdatesPerTick = 16;
 
     // Spatial IO/Dimension
     private int storageProviderID = -1;
@@ -235,8 +244,17 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 
         if (this.isFeatureEnabled(AEFeature.CRAFTING_CPU)) {
             this.craftingCalculationTimePerTick = this.get("craftingCPU", "craftingCalculationTimePerTick", this.craftingCalculationTimePerTick).getInt(this.craftingCalculationTimePerTick);
+            this.craftingCalculationThreads = Math.max(2, this.get("craftingCPU", "craftingCalculationThreads", this.craftingCalculationThreads, "Number of threads running crafting calculations, at least 2. One of them only runs requests made by players. Further requests wait in a queue shared fairly between networks.").getInt(this.craftingCalculationThreads));
         }
 
+        this.storageBusSlotsPerTick = Math.max(1, this.get("storageBus", "slotsPerTick", this.storageBusSlotsPerTick, "Number of slots a storage bus compares against its cache each time it ticks. Slots it inserted into or extracted from are always rechecked right away.").getInt(this.storageBusSlotsPerTick));
+        this.compactCellStorage = this.get("storageCell", "compactStorage", this.compactCellStorage, "Saves the contents of storage cells as one compact byte array instead of a tag per stored type. Cells in the old layout are converted when they change next, and disabling this converts them back the same way.").getBoolean(this.compactCellStorage);
+        this.gridUpdateBudget = Math.max(0, this.get("grid", "updateBudget", this.gridUpdateBudget, "Milliseconds per tick all networks together may spend on their updates. Work that can wait, like channel assignment or refreshing the stored item list, is spread over the following ticks once it is used up. 0 disables the limit.").getInt(this.gridUpdateBudget));
+        this.channelUpdateRange = Math.max(0, this.get("grid", "channelUpdateRange", this.channelUpdateRange, "Cables only send their new channel counts to clients while a player is within this many blocks, otherwise the update is held back until one comes near. 0 always sends them.").getInt(this.channelUpdateRange));
+        this.terminalUpdateInterval = Math.max(1, this.get("terminal", "updateInterval", this.terminalUpdateInterval, "Ticks between two inventory updates sent to each terminal viewer. Changes in between are merged per item.").getInt(this.terminalUpdateInterval));
+        this.terminalVisibleUpdatesFirst = this.get("terminal", "visibleUpdatesFirst", this.terminalVisibleUpdatesFirst, "Whether changes to items the viewer has not scrolled to are only sent every hiddenUpdateInterval ticks.").getBoolean(this.terminalVisibleUpdatesFirst);
+        this.terminalHiddenUpdateInterval = Math.max(this.terminalUpdateInterval, this.get("terminal", "hiddenUpdateInterval", this.terminalHiddenUpdateInterval, "Ticks between two updates of items that are currently not visible in the terminal.").getInt(this.terminalHiddenUpdateInterval));
+
         this.updatable = true;
     }
 
@@ -256,6 +274,7 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         this.showCraftableTooltip = this.get("Client", "showCraftableTooltip", true, "Whether to add \"Craftable\" to item tooltips when they can be crafted automatically.").getBoolean(true);
         this.showPlacementPreview = this.get("Client", "showPlacementPreview", true, "Whether to show a preview of part and facade placement.").getBoolean(true);
         this.showCellContentsPreview = this.get("Client", "showCellContentsPreview", true, "Whether to show a preview of cell contents in tooltips.").getBoolean(true);
+        this.cableRenderUpdatesPerTick = Math.max(0, this.get("Client", "cableRenderUpdatesPerTick", 16, "Chunk sections with changed cables which are redrawn per tick, the rest wait for the following ticks. Sections next to the player are always redrawn right away. 0 redraws all of them at once.").getInt(16));
 
         // load buttons..
         for (int btnNum = 0; btnNum < 4; btnNum++) {
@@ -529,6 +548,42 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         return this.craftingCalculationTimePerTick;
     }
 
+    public int getCraftingCalculationThreads() {
+        return this.craftingCalculationThreads;
+    }
+
+    public int getStorageBusSlotsPerTick() {
+        return this.storageBusSlotsPerTick;
+    }
+
+    public boolean isCompactCellStorage() {
+        return this.compactCellStorage;
+    }
+
+    public int getGridUpdateBudget() {
+        return this.gridUpdateBudget;
+    }
+
+    public int getChannelUpdateRange() {
+        return this.channelUpdateRange;
+    }
+
+    public int getCableRenderUpdatesPerTick() {
+        return this.cableRenderUpdatesPerTick;
+    }
+
+    public int getTerminalUpdateInterval() {
+        return this.terminalUpdateInterval;
+    }
+
+    public int getTerminalHiddenUpdateInterval() {
+        return this.terminalHiddenUpdateInterval;
+    }
+
+    public boolean isTerminalVisibleUpdatesFirst() {
+        return this.terminalVisibleUpdatesFirst;
+    }
+
     public PowerUnits getSelectedPowerUnit() {
         return this.selectedPowerUnit;
     }
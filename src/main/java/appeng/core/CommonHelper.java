@@ -27,6 +27,7 @@ import appeng.core.sync.AppEngPacket;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.World;
 
@@ -62,6 +63,11 @@ public abstract class CommonHelper {
 
     public abstract void triggerUpdates();
 
+    /**
+     * Redraws the block at the given position, which the client may put off for a few ticks when lots of them change.
+     */
+    public abstract void scheduleRenderUpdate(World world, BlockPos pos);
+
     public abstract void updateRenderMode(EntityPlayer player);
 
     public abstract boolean isKeyPressed(@Nonnull final ActionKey key);
@@ -69,6 +69,7 @@ import appeng.recipes.ores.OreDictionaryHandler;
 import appeng.spatial.BiomeGenStorage;
 import appeng.spatial.StorageWorldProvider;
 import appeng.tile.AEBaseTile;
+import appeng.util.item.OreHelper;
 import appeng.worldgen.MeteoriteWorldGen;
 import appeng.worldgen.QuartzWorldGen;
 import appeng.worldgen.meteorite.MeteorConstants;
@@ -133,6 +134,7 @@ final class Registration {
         this.registerCraftHandlers(recipeRegistry);
 
         MinecraftForge.EVENT_BUS.register(OreDictionaryHandler.INSTANCE);
+        MinecraftForge.EVENT_BUS.register(OreHelper.INSTANCE);
 
         ApiDefinitions definitions = api.definitions();
 
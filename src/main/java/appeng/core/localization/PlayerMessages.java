@@ -47,7 +47,9 @@ public enum PlayerMessages {
     InterfaceHighlighted,
 
     CompassTestSuccess,
-    CompassTestFailure
+    CompassTestFailure,
+
+    CraftingCalculationSuperseded
     ;
 
     public ITextComponent get(Object... params) {
@@ -24,6 +24,7 @@ import appeng.container.implementations.ContainerCraftConfirm;
 import appeng.container.implementations.ContainerCraftingCPU;
 import appeng.container.implementations.ContainerMEMonitorable;
 import appeng.container.implementations.ContainerNetworkStatus;
+import appeng.container.implementations.TerminalItemDictionary;
 import appeng.core.AELog;
 import appeng.core.sync.AppEngPacket;
 import appeng.core.sync.network.INetworkInfo;
@@ -32,6 +33,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -56,6 +58,9 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     // input.
     @Nullable
     private final List<IAEItemStack> list;
+    // records which need the terminal's dictionary to be read.
+    @Nullable
+    private final ByteBuf records;
     // output...
     private final byte ref;
 
@@ -63,6 +68,8 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     private final ByteBuf data;
     @Nullable
     private final GZIPOutputStream compressFrame;
+    @Nullable
+    private final TerminalItemDictionary dictionary;
 
     private int writtenBytes = 0;
     private boolean empty = true;
@@ -71,8 +78,10 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     public PacketMEInventoryUpdate(final ByteBuf stream) throws IOException {
         this.data = null;
         this.compressFrame = null;
+        this.dictionary = null;
         this.list = new ArrayList<>();
         this.ref = stream.readByte();
+        final boolean usesDictionary = stream.readBoolean();
 
         // int originalBytes = stream.readableBytes();
 
@@ -97,8 +106,14 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
                 }
             }
 
-            while (uncompressed.readableBytes() > 0) {
-                this.list.add(AEItemStack.fromPacket(uncompressed));
+            if (usesDictionary) {
+                this.records = uncompressed;
+            } else {
+                this.records = null;
+
+                while (uncompressed.readableBytes() > 0) {
+                    this.list.add(AEItemStack.fromPacket(uncompressed));
+                }
             }
         }
 
@@ -113,10 +128,23 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
 
     // api
     public PacketMEInventoryUpdate(final byte ref) throws IOException {
+        this(ref, null);
+    }
+
+    /**
+     * Creates an update for a terminal, which sends each item definition only once per viewer.
+     */
+    public PacketMEInventoryUpdate(final TerminalItemDictionary dictionary) throws IOException {
+        this((byte) 0, dictionary);
+    }
+
+    private PacketMEInventoryUpdate(final byte ref, @Nullable final TerminalItemDictionary dictionary) throws IOException {
         this.ref = ref;
+        this.dictionary = dictionary;
         this.data = Unpooled.buffer(OPERATION_BYTE_LIMIT);
         this.data.writeInt(this.getPacketID());
         this.data.writeByte(this.ref);
+        this.data.writeBoolean(dictionary != null);
 
         this.compressFrame = new GZIPOutputStream(new OutputStream() {
             @Override
@@ -126,6 +154,7 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
         });
 
         this.list = null;
+        this.records = null;
     }
 
     @Override
@@ -142,7 +171,13 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
         }
 
         if (c instanceof ContainerMEMonitorable) {
-            ((ContainerMEMonitorable) c).postUpdate(this.list);
+            final ContainerMEMonitorable monitorable = (ContainerMEMonitorable) c;
+
+            if (this.records != null) {
+                this.readRecords(monitorable.getClientDictionary());
+            }
+
+            monitorable.postUpdate(this.list);
         }
 
         if (c instanceof ContainerNetworkStatus) {
@@ -150,13 +185,37 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
         }
     }
 
+    @SideOnly(Side.CLIENT)
+    private void readRecords(final TerminalItemDictionary dictionary) {
+        while (this.records.readableBytes() > 0) {
+            final boolean definition = this.records.readBoolean();
+            final int id = ByteBufUtils.readVarInt(this.records, 5);
+
+            final IAEItemStack is;
+            if (definition) {
+                is = AEItemStack.fromPacket(this.records);
+                if (is != null) {
+                    dictionary.putDefinition(id, is);
+                }
+            } else {
+                is = AEItemStack.fromPacket(this.records, dictionary.getDefinition(id));
+            }
+
+            if (is != null) {
+                if (!is.isMeaningful()) {
+                    dictionary.removeDefinition(id);
+                }
+
+                this.list.add(is);
+            }
+        }
+    }
+
     @Nullable
     @Override
     public FMLProxyPacket getProxy() {
         try {
-            this.compressFrame.close();
-
-            this.configureWrite(this.data);
+            this.finishPayload();
             return super.getProxy();
         } catch (final IOException e) {
             AELog.debug(e);
@@ -165,9 +224,42 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
         return null;
     }
 
+    /**
+     * Closes the compressed frame, no more items can be appended afterwards.
+     *
+     * @return the encoded packet, starting with its packet id.
+     */
+    ByteBuf finishPayload() throws IOException {
+        this.compressFrame.close();
+
+        this.configureWrite(this.data);
+        return this.data;
+    }
+
     public void appendItem(final IAEItemStack is) throws IOException, BufferOverflowException {
         final ByteBuf tmp = Unpooled.buffer(OPERATION_BYTE_LIMIT);
-        is.writeToPacket(tmp);
+        final int knownId;
+
+        if (this.dictionary == null) {
+            knownId = -1;
+            is.writeToPacket(tmp);
+        } else {
+            knownId = this.dictionary.getId(is);
+
+            // the client never saw it, so there is nothing to remove either.
+            if (knownId < 0 && !is.isMeaningful()) {
+                return;
+            }
+
+            tmp.writeBoolean(knownId < 0);
+            if (knownId < 0) {
+                ByteBufUtils.writeVarInt(tmp, this.dictionary.getNextId(), 5);
+                is.writeToPacket(tmp);
+            } else {
+                ByteBufUtils.writeVarInt(tmp, knownId, 5);
+                ((AEItemStack) is).writeAmountsToPacket(tmp);
+            }
+        }
 
         this.compressFrame.flush();
         if (this.writtenBytes + tmp.readableBytes() > UNCOMPRESSED_PACKET_BYTE_LIMIT) {
@@ -177,6 +269,14 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
             this.compressFrame.write(tmp.array(), 0, tmp.readableBytes());
             this.empty = false;
         }
+
+        if (this.dictionary != null) {
+            if (knownId < 0) {
+                this.dictionary.define(is);
+            } else if (!is.isMeaningful()) {
+                this.dictionary.forget(is);
+            }
+        }
     }
 
     public int getLength() {
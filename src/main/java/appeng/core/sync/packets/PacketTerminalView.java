@@ -0,0 +1,78 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package appeng.core.sync.packets;
+
+
+import appeng.container.implementations.ContainerMEMonitorable;
+import appeng.core.sync.AppEngPacket;
+import appeng.core.sync.network.INetworkInfo;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+
+/**
+ * Tells the server which items a terminal currently shows, by their {@link appeng.container.implementations.TerminalItemDictionary} id.
+ */
+public class PacketTerminalView extends AppEngPacket {
+
+    private static final int MAX_IDS = 1024;
+
+    private final IntSet visibleIds;
+
+    // automatic.
+    public PacketTerminalView(final ByteBuf stream) {
+        final int count = Math.min(MAX_IDS, ByteBufUtils.readVarInt(stream, 5));
+        this.visibleIds = new IntOpenHashSet(count);
+        for (int i = 0; i < count; i++) {
+            this.visibleIds.add(ByteBufUtils.readVarInt(stream, 5));
+        }
+    }
+
+    // api
+    public PacketTerminalView(final IntCollection visibleIds) {
+        this.visibleIds = null;
+
+        final ByteBuf data = Unpooled.buffer();
+        data.writeInt(this.getPacketID());
+
+        final int count = Math.min(MAX_IDS, visibleIds.size());
+        ByteBufUtils.writeVarInt(data, count, 5);
+
+        int written = 0;
+        for (final int id : visibleIds) {
+            if (written++ >= count) {
+                break;
+            }
+            ByteBufUtils.writeVarInt(data, id, 5);
+        }
+
+        this.configureWrite(data);
+    }
+
+    @Override
+    public void serverPacketData(final INetworkInfo manager, final AppEngPacket packet, final EntityPlayer player) {
+        if (player.openContainer instanceof ContainerMEMonitorable) {
+            ((ContainerMEMonitorable) player.openContainer).setVisibleIds(player, this.visibleIds);
+        }
+    }
+}
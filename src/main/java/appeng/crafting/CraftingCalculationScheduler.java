@@ -0,0 +1,268 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.crafting.ICraftingJob;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.core.AELog;
+
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+
+/**
+ * Runs crafting calculations on a fixed number of worker threads.
+ * <p>
+ * Waiting calculations are queued per grid and grids are served round-robin, so a single network requesting lots of
+ * crafts can not starve the others. Requests made by players are always started before requests made by machines, and
+ * one worker is kept for players only. Machine calculations hold on to their worker while they wait for their next share
+ * of a tick, so without it a few long ones could keep players waiting regardless of their priority.
+ * A new request from the same player or machine for the same output on the same grid replaces one that is still
+ * waiting.
+ */
+public class CraftingCalculationScheduler {
+
+    private final Object lock = new Object();
+    private final FairQueue playerRequests = new FairQueue();
+    private final FairQueue machineRequests = new FairQueue();
+
+    private final int machineWorkers;
+    private int running = 0;
+    private int runningMachine = 0;
+    private long started = 0;
+    private long superseded = 0;
+    private long totalWaitNanos = 0;
+    private long maxWaitNanos = 0;
+
+    /**
+     * @param workers the number of worker threads, at least two are started so one can be kept for players.
+     */
+    public CraftingCalculationScheduler(final int workers) {
+        final int threads = Math.max(2, workers);
+        this.machineWorkers = threads - 1;
+
+        for (int i = 0; i < threads; i++) {
+            final Thread worker = new Thread(this::work, "AE Crafting Calculator #" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    public Future<ICraftingJob> submit(final IGrid grid, final CraftingJob job, final IActionSource actionSrc) {
+        final Request request = new Request(grid, job, actionSrc);
+        final FairQueue queue = request.player ? this.playerRequests : this.machineRequests;
+
+        synchronized (this.lock) {
+            this.superseded += queue.removeSuperseded(request);
+            queue.add(request);
+            this.lock.notify();
+        }
+
+        return request;
+    }
+
+    /**
+     * @return the number of calculations waiting for a worker.
+     */
+    public int getQueuedRequests() {
+        synchronized (this.lock) {
+            return this.playerRequests.size + this.machineRequests.size;
+        }
+    }
+
+    /**
+     * @return the number of calculations currently running.
+     */
+    public int getRunningRequests() {
+        synchronized (this.lock) {
+            return this.running;
+        }
+    }
+
+    /**
+     * @return the number of waiting calculations which were dropped in favour of a newer request.
+     */
+    public long getSupersededRequests() {
+        synchronized (this.lock) {
+            return this.superseded;
+        }
+    }
+
+    /**
+     * @return the average time a calculation waited for a worker, in nanoseconds.
+     */
+    public long getAverageWaitNanos() {
+        synchronized (this.lock) {
+            return this.started == 0 ? 0 : this.totalWaitNanos / this.started;
+        }
+    }
+
+    /**
+     * @return the longest time a calculation waited for a worker, in nanoseconds.
+     */
+    public long getMaxWaitNanos() {
+        synchronized (this.lock) {
+            return this.maxWaitNanos;
+        }
+    }
+
+    private void work() {
+        while (true) {
+            final Request request;
+
+            try {
+                request = this.take();
+            } catch (final InterruptedException e) {
+                // left over from a canceled calculation, keep serving.
+                continue;
+            }
+
+            // a cancellation may have interrupted this worker after its last calculation already finished
+            Thread.interrupted();
+
+            try {
+                request.run();
+            } catch (final Throwable t) {
+                AELog.debug(t);
+            } finally {
+                synchronized (this.lock) {
+                    this.running--;
+                    if (!request.player) {
+                        this.runningMachine--;
+                    }
+                }
+            }
+        }
+    }
+
+    private Request take() throws InterruptedException {
+        synchronized (this.lock) {
+            while (true) {
+                Request next = this.playerRequests.poll();
+                if (next == null && this.runningMachine < this.machineWorkers) {
+                    next = this.machineRequests.poll();
+                }
+
+                if (next == null) {
+                    this.lock.wait();
+                } else if (!next.isCancelled()) {
+                    final long waited = System.nanoTime() - next.queuedAt;
+                    this.started++;
+                    this.totalWaitNanos += waited;
+                    this.maxWaitNanos = Math.max(this.maxWaitNanos, waited);
+                    this.running++;
+                    if (!next.player) {
+                        this.runningMachine++;
+                    }
+                    return next;
+                }
+            }
+        }
+    }
+
+    private static class Request extends FutureTask<ICraftingJob> {
+
+        private final IGrid grid;
+        private final Object requester;
+        private final IAEItemStack output;
+        private final boolean player;
+        private final long queuedAt = System.nanoTime();
+
+        private Request(final IGrid grid, final CraftingJob job, final IActionSource actionSrc) {
+            super(job, job);
+            this.grid = grid;
+            this.player = actionSrc.player().isPresent();
+            this.requester = actionSrc.player().<Object>map(p -> p).orElse(actionSrc.machine().orElse(null));
+            this.output = job.getOutput();
+        }
+
+        private boolean supersedes(final Request other) {
+            return this.requester != null && this.requester == other.requester && this.output.equals(other.output);
+        }
+    }
+
+    /**
+     * One queue per grid, polled round-robin.
+     */
+    private static class FairQueue {
+
+        private final Map<IGrid, Deque<Request>> queues = new HashMap<>();
+        private final Deque<IGrid> rotation = new ArrayDeque<>();
+        private int size = 0;
+
+        private void add(final Request request) {
+            final Deque<Request> queue = this.queues.computeIfAbsent(request.grid, g -> {
+                this.rotation.addLast(g);
+                return new ArrayDeque<>();
+            });
+
+            queue.addLast(request);
+            this.size++;
+        }
+
+        private Request poll() {
+            final IGrid grid = this.rotation.pollFirst();
+            if (grid == null) {
+                return null;
+            }
+
+            final Deque<Request> queue = this.queues.get(grid);
+            final Request next = queue.pollFirst();
+            this.size--;
+
+            if (queue.isEmpty()) {
+                this.queues.remove(grid);
+            } else {
+                this.rotation.addLast(grid);
+            }
+
+            return next;
+        }
+
+        private int removeSuperseded(final Request request) {
+            final Deque<Request> queue = this.queues.get(request.grid);
+            if (queue == null) {
+                return 0;
+            }
+
+            int removed = 0;
+            final Iterator<Request> it = queue.iterator();
+            while (it.hasNext()) {
+                final Request queued = it.next();
+                if (request.supersedes(queued)) {
+                    it.remove();
+                    queued.cancel(false);
+                    removed++;
+                }
+            }
+
+            this.size -= removed;
+            if (queue.isEmpty()) {
+                this.queues.remove(request.grid);
+                this.rotation.remove(request.grid);
+            }
+
+            return removed;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import appeng.api.storage.data.IItemList;
 import appeng.api.util.DimensionalCoord;
 import appeng.core.AELog;
 import appeng.hooks.TickHandler;
+import appeng.me.cache.CraftingGridCache;
 import appeng.me.cache.GridStorageCache;
 import com.google.common.base.Stopwatch;
 import net.minecraft.entity.player.EntityPlayer;
@@ -60,6 +61,7 @@ public class CraftingJob implements Runnable, ICraftingJob {
     private final Stopwatch tickSpreadingWatch = Stopwatch.createUnstarted();
     private final Stopwatch craftingTreeWatch = Stopwatch.createUnstarted();
     private final ICraftingGrid cc;
+    private final CraftingTreeTemplates treeTemplates;
     private CraftingTreeNode tree;
     private final IAEItemStack output;
     private boolean simulate = false;
@@ -77,20 +79,32 @@ public class CraftingJob implements Runnable, ICraftingJob {
     }
 
     public CraftingJob(final World w, final IGrid grid, final IActionSource actionSrc, final IAEItemStack what, final ICraftingCallback callback) {
+        this(w, grid.getCache(ICraftingGrid.class), grid.<CraftingGridCache>getCache(ICraftingGrid.class).getTreeTemplates(), getStorageList(grid), actionSrc, what, callback);
+    }
+
+    /**
+     * Creates a job against the given patterns and stored items directly, without needing a grid to look them up.
+     */
+    CraftingJob(final World w, final ICraftingGrid cc, final CraftingTreeTemplates treeTemplates, final IItemList<IAEItemStack> storage, final IActionSource actionSrc, final IAEItemStack what, final ICraftingCallback callback) {
         this.world = this.wrapWorld(w);
         this.output = what.copy();
         this.actionSrc = actionSrc;
 
         this.callback = callback;
 
-        this.cc = grid.getCache(ICraftingGrid.class);
-        final GridStorageCache sg = grid.getCache(IStorageGrid.class);
-        this.original = new MECraftingInventory(sg.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class)).getStorageList());
+        this.cc = cc;
+        this.treeTemplates = treeTemplates;
+        this.original = new MECraftingInventory(storage);
 
         this.setTree(this.getCraftingTree(cc, what));
         this.availableCheck = null;
     }
 
+    private static IItemList<IAEItemStack> getStorageList(final IGrid grid) {
+        final GridStorageCache sg = grid.getCache(IStorageGrid.class);
+        return sg.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class)).getStorageList();
+    }
+
     private CraftingTreeNode getCraftingTree(final ICraftingGrid cc, final IAEItemStack what) {
         return new CraftingTreeNode(cc, this, what, null, -1, 0);
     }
@@ -122,9 +136,17 @@ public class CraftingJob implements Runnable, ICraftingJob {
 
     @Override
     public void run() {
+        TickHandler.INSTANCE.registerCraftingSimulation(this.world, this);
+        this.calculate();
+    }
+
+    /**
+     * Calculates the crafting tree on the calling thread. Jobs without a player pause whenever their share of the tick
+     * is used up, so they have to be registered with the {@link TickHandler} first.
+     */
+    void calculate() {
         try {
             try {
-                TickHandler.INSTANCE.registerCraftingSimulation(this.world, this);
                 this.handlePausing();
 
                 final MECraftingInventory craftingInventory = new MECraftingInventory(this.original, true, false, true);
@@ -274,6 +296,10 @@ public class CraftingJob implements Runnable, ICraftingJob {
         return this.world;
     }
 
+    CraftingTreeTemplates getTreeTemplates() {
+        return this.treeTemplates;
+    }
+
     /**
      * @return true if this needs more simulation
      */
@@ -59,6 +59,7 @@ public class CraftingTreeNode {
     private final ArrayList<CraftingTreeProcess> nodes = new ArrayList<>();
     private final ICraftingGrid cc;
     private final int depth;
+    private final CraftingTreeTemplates.NodeTemplate template;
     private int bytes = 0;
     private boolean canEmit = false;
     private long missing = 0;
@@ -66,6 +67,10 @@ public class CraftingTreeNode {
     private boolean exhausted = false;
 
     public CraftingTreeNode(final ICraftingGrid cc, final CraftingJob job, final IAEItemStack wat, final CraftingTreeProcess par, final int slot, final int depth) {
+        this(cc, job, wat, par, slot, depth, job.getTreeTemplates().getNode(cc, wat));
+    }
+
+    CraftingTreeNode(final ICraftingGrid cc, final CraftingJob job, final IAEItemStack wat, final CraftingTreeProcess par, final int slot, final int depth, final CraftingTreeTemplates.NodeTemplate template) {
         this.what = wat;
         this.parent = par;
         this.slot = slot;
@@ -73,8 +78,9 @@ public class CraftingTreeNode {
         this.job = job;
         this.cc = cc;
         this.depth = depth;
+        this.template = template;
 
-        this.canEmit = cc.canEmitFor(this.what);
+        this.canEmit = template.canEmit();
     }
 
     public void addNode() {
@@ -86,11 +92,11 @@ public class CraftingTreeNode {
             return; // if you can emit for something, you can't make it with patterns.
         }
 
-        for (final ICraftingPatternDetails details : cc.getCraftingFor(this.what, this.parent == null ? null : this.parent.details, slot, this.world))// in
-        // order.
-        {
+        // in order, only whether a pattern recurses into itself depends on where in the tree this node is.
+        for (final CraftingTreeTemplates.ProcessTemplate process : this.template.getProcesses()) {
+            final ICraftingPatternDetails details = process.getDetails();
             if (this.parent == null || notRecursive(details) && this.parent.details != details) {
-                this.nodes.add(new CraftingTreeProcess(cc, job, details, this, depth + 1));
+                this.nodes.add(new CraftingTreeProcess(cc, job, process, this, depth + 1));
             }
         }
     }
@@ -99,7 +105,6 @@ public class CraftingTreeNode {
         addNode();
         this.job.handlePausing();
 
-        final IItemList<IAEItemStack> inventoryList = inv.getItemList();
         final List<IAEItemStack> thingsUsed = new ArrayList<>();
 
         this.what.setStackSize(l);
@@ -112,7 +117,7 @@ public class CraftingTreeNode {
             if (this.parent.details.canSubstitute()) {
                 for (IAEItemStack subs : this.parent.details.getSubstituteInputs(this.slot)) {
                     if (damageableItem) {
-                        Iterator<IAEItemStack> it = new MeaningfulItemIterator<>(inventoryList.findFuzzy(this.what, FuzzyMode.IGNORE_ALL));
+                        Iterator<IAEItemStack> it = new MeaningfulItemIterator<>(inv.findFuzzy(this.what, FuzzyMode.IGNORE_ALL));
                         while (it.hasNext()) {
                             IAEItemStack i = it.next();
                             if (i.getStackSize() > 0) {
@@ -120,14 +125,14 @@ public class CraftingTreeNode {
                             }
                         }
                     }
-                    subs = inventoryList.findPrecise(subs);
+                    subs = inv.findPrecise(subs);
                     if (subs != null && subs.getStackSize() > 0) {
                         itemList.add(subs);
                     }
                 }
             } else {
                 if (damageableItem) {
-                    Iterator<IAEItemStack> it = new MeaningfulItemIterator<>(inventoryList.findFuzzy(this.what, FuzzyMode.IGNORE_ALL));
+                    Iterator<IAEItemStack> it = new MeaningfulItemIterator<>(inv.findFuzzy(this.what, FuzzyMode.IGNORE_ALL));
                     while (it.hasNext()) {
                         IAEItemStack i = it.next();
                         if (i.getStackSize() > 0) {
@@ -135,7 +140,7 @@ public class CraftingTreeNode {
                         }
                     }
                 } else {
-                    final IAEItemStack item = inventoryList.findPrecise(this.what);
+                    final IAEItemStack item = inv.findPrecise(this.what);
                     if (item != null && item.getStackSize() > 0) {
                         itemList.add(item);
                     }
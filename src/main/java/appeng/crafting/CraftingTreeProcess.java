@@ -43,18 +43,24 @@ public class CraftingTreeProcess {
     private final int depth;
     private final ICraftingGrid cc;
     private final World world;
+    private final CraftingTreeTemplates.ProcessTemplate template;
     boolean possible = true;
     private long crafts = 0;
     private long bytes = 0;
     private ArrayList<IAEItemStack> containers;
 
     public CraftingTreeProcess(final ICraftingGrid cc, final CraftingJob job, final ICraftingPatternDetails details, final CraftingTreeNode craftingTreeNode, final int depth) {
+        this(cc, job, job.getTreeTemplates().getProcess(details), craftingTreeNode, depth);
+    }
+
+    CraftingTreeProcess(final ICraftingGrid cc, final CraftingJob job, final CraftingTreeTemplates.ProcessTemplate template, final CraftingTreeNode craftingTreeNode, final int depth) {
         this.parent = craftingTreeNode;
-        this.details = details;
+        this.details = template.getDetails();
         this.job = job;
         this.depth = depth;
         this.cc = cc;
         this.world = job.getWorld();
+        this.template = template;
     }
 
     public void addProcess() {
@@ -62,6 +68,14 @@ public class CraftingTreeProcess {
             return;
         }
 
+        // without substitutes the expansion does not depend on what is available, so it can be reused.
+        if (!AEConfig.instance().getEnableCraftingSubstitutes()) {
+            for (final CraftingTreeTemplates.Input input : this.template.getInputs()) {
+                this.nodes.put(new CraftingTreeNode(cc, job, input.getStack(), this, input.getSlot(), depth + 1, input.getNode(job.getTreeTemplates(), cc)), input.getAmount());
+            }
+            return;
+        }
+
         final IAEItemStack[] list = details.getInputs();
 
         // this is minor different then below, this slot uses the pattern, but kinda fudges it.
@@ -182,12 +196,8 @@ public class CraftingTreeProcess {
     }
 
     long getTimes(final long remaining, final long stackSize) {
-        for (final IAEItemStack part : details.getCondensedOutputs()) {
-            for (final IAEItemStack o : details.getCondensedInputs()) {
-                if (part.equals(o) || o.getItem().hasContainerItem(part.getDefinition())) {
-                    return 1;
-                }
-            }
+        if (this.template.craftsOnce()) {
+            return 1;
         }
         return (remaining / stackSize) + (remaining % stackSize != 0 ? 1 : 0);
     }
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import appeng.api.networking.crafting.ICraftingGrid;
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.api.storage.data.IAEItemStack;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Remembers the resolved structure of a grid's crafting trees, so repeated crafting calculations only have to check
+ * availability instead of re-deriving the same tree over and over: which patterns can make an item and whether it can
+ * be emitted instead, and which sub-requests each of those patterns expands into. The templates link up lazily as
+ * calculations walk them, a chain of patterns is resolved once and then shared by every later request for it.
+ * <p>
+ * An instance belongs to one version of a grid's pattern set, the crafting grid replaces it whenever its patterns
+ * change. Calculations keep the instance they started with and may run concurrently.
+ */
+public class CraftingTreeTemplates {
+
+    private final Map<ICraftingPatternDetails, ProcessTemplate> processes = new ConcurrentHashMap<>();
+    private final Map<IAEItemStack, NodeTemplate> nodes = new ConcurrentHashMap<>();
+
+    ProcessTemplate getProcess(final ICraftingPatternDetails details) {
+        return this.processes.computeIfAbsent(details, ProcessTemplate::new);
+    }
+
+    /**
+     * The patterns the crafting grid offers for an item only depend on the item itself, so one template serves every
+     * place in a tree it is requested.
+     */
+    NodeTemplate getNode(final ICraftingGrid cc, final IAEItemStack what) {
+        final NodeTemplate node = this.nodes.get(what);
+        if (node != null) {
+            return node;
+        }
+
+        // tree nodes change the stack size of their item, so the key needs its own copy.
+        return this.nodes.computeIfAbsent(what.copy(), w -> new NodeTemplate(this, cc, w));
+    }
+
+    static class NodeTemplate {
+
+        private final boolean canEmit;
+        private final ImmutableList<ProcessTemplate> processes;
+
+        private NodeTemplate(final CraftingTreeTemplates templates, final ICraftingGrid cc, final IAEItemStack what) {
+            this.canEmit = cc.canEmitFor(what);
+
+            final ImmutableList.Builder<ProcessTemplate> processes = ImmutableList.builder();
+            if (!this.canEmit) {
+                for (final ICraftingPatternDetails details : cc.getCraftingFor(what, null, -1, null)) {
+                    processes.add(templates.getProcess(details));
+                }
+            }
+            this.processes = processes.build();
+        }
+
+        /**
+         * @return true if the item is emitted on request, it is never crafted with patterns then.
+         */
+        boolean canEmit() {
+            return this.canEmit;
+        }
+
+        /**
+         * @return the patterns making the item in the order they should be tried, including ones which would recurse
+         * into themselves in a particular tree.
+         */
+        ImmutableList<ProcessTemplate> getProcesses() {
+            return this.processes;
+        }
+    }
+
+    static class ProcessTemplate {
+
+        private final ICraftingPatternDetails details;
+        private final ImmutableList<Input> inputs;
+        private final boolean craftsOnce;
+
+        private ProcessTemplate(final ICraftingPatternDetails details) {
+            this.details = details;
+            this.inputs = expandInputs(details);
+            this.craftsOnce = craftsOnce(details);
+        }
+
+        ICraftingPatternDetails getDetails() {
+            return this.details;
+        }
+
+        /**
+         * @return the sub-requests of this pattern when no substitutes are involved.
+         */
+        ImmutableList<Input> getInputs() {
+            return this.inputs;
+        }
+
+        /**
+         * @return true if the pattern consumes one of its own outputs and has to be requested one craft at a time.
+         */
+        boolean craftsOnce() {
+            return this.craftsOnce;
+        }
+
+        private static ImmutableList<Input> expandInputs(final ICraftingPatternDetails details) {
+            final ImmutableList.Builder<Input> inputs = ImmutableList.builder();
+            final IAEItemStack[] list = details.getInputs();
+
+            for (IAEItemStack part : details.getCondensedInputs()) {
+                if (part == null) {
+                    continue;
+                }
+                for (int x = 0; x < list.length; x++) {
+                    final IAEItemStack comparePart = list[x];
+                    if (part.equals(comparePart)) {
+                        boolean isPartContainer = false;
+                        if (part.getItem().hasContainerItem(part.getDefinition())) {
+                            part = list[x];
+                            isPartContainer = true;
+                        }
+
+                        // use the first slot...
+                        if (part.getStackSize() > 0) {
+                            inputs.add(new Input(part.copy(), x, part.getStackSize()));
+                        }
+
+                        if (!isPartContainer) {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            return inputs.build();
+        }
+
+        private static boolean craftsOnce(final ICraftingPatternDetails details) {
+            for (final IAEItemStack part : details.getCondensedOutputs()) {
+                for (final IAEItemStack o : details.getCondensedInputs()) {
+                    if (part.equals(o) || o.getItem().hasContainerItem(part.getDefinition())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    static class Input {
+
+        private final IAEItemStack stack;
+        private final int slot;
+        private final long amount;
+        private volatile NodeTemplate node;
+
+        private Input(final IAEItemStack stack, final int slot, final long amount) {
+            this.stack = stack;
+            this.slot = slot;
+            this.amount = amount;
+        }
+
+        /**
+         * @return a fresh copy, tree nodes modify the stack they are given.
+         */
+        IAEItemStack getStack() {
+            return this.stack.copy();
+        }
+
+        int getSlot() {
+            return this.slot;
+        }
+
+        long getAmount() {
+            return this.amount;
+        }
+
+        /**
+         * @return the template of the tree node requesting this input, looked up once and then linked directly.
+         */
+        NodeTemplate getNode(final CraftingTreeTemplates templates, final ICraftingGrid cc) {
+            NodeTemplate node = this.node;
+            if (node == null) {
+                this.node = node = templates.getNode(cc, this.stack);
+            }
+            return node;
+        }
+    }
+}
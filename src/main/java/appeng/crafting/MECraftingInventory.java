@@ -21,6 +21,7 @@ package appeng.crafting;
 
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.IMEInventory;
 import appeng.api.storage.IMEMonitor;
@@ -34,12 +35,22 @@ import appeng.util.inv.ItemListIgnoreCrafting;
 import net.minecraft.entity.player.EntityPlayerMP;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 
 public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
     private final MECraftingInventory par;
 
+    /**
+     * Set for overlays, which only hold the items they touched and read everything else through from this inventory.
+     */
+    private final MECraftingInventory overlayOf;
+    private final Set<IAEItemStack> resolved;
+
     private final IMEInventory<IAEItemStack> target;
     private final IItemList<IAEItemStack> localCache;
 
@@ -62,6 +73,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         this.logMissing = false;
         this.target = null;
         this.par = null;
+        this.overlayOf = null;
+        this.resolved = null;
     }
 
     public MECraftingInventory(final MECraftingInventory parent) {
@@ -91,6 +104,43 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         this.localCache = this.target.getAvailableItems(new ItemListIgnoreCrafting<>(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList()));
 
         this.par = parent;
+        this.overlayOf = null;
+        this.resolved = null;
+    }
+
+    /**
+     * Creates an overlay on top of another crafting inventory. Unlike a copy it only records the items it extracted
+     * or injected itself and resolves everything else lazily from the parent, which must not change while the overlay
+     * is in use. {@link #commit(IActionSource)} applies the recorded changes to the parent.
+     */
+    public MECraftingInventory(final MECraftingInventory parent, final boolean logExtracted, final boolean logInjections, final boolean logMissing) {
+        this.target = parent;
+        this.logExtracted = logExtracted;
+        this.logInjections = logInjections;
+        this.logMissing = logMissing;
+
+        if (logMissing) {
+            this.missingCache = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        } else {
+            this.missingCache = null;
+        }
+
+        if (logExtracted) {
+            this.extractedCache = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        } else {
+            this.extractedCache = null;
+        }
+
+        if (logInjections) {
+            this.injectedCache = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        } else {
+            this.injectedCache = null;
+        }
+
+        this.localCache = new ItemListIgnoreCrafting<>(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList());
+        this.par = null;
+        this.overlayOf = parent;
+        this.resolved = new HashSet<>();
     }
 
     public MECraftingInventory(final IMEMonitor<IAEItemStack> target, final IActionSource src, final boolean logExtracted, final boolean logInjections, final boolean logMissing) {
@@ -123,6 +173,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         }
 
         this.par = null;
+        this.overlayOf = null;
+        this.resolved = null;
     }
 
     public MECraftingInventory(final IMEInventory<IAEItemStack> target, final boolean logExtracted, final boolean logInjections, final boolean logMissing) {
@@ -151,6 +203,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
         this.localCache = target.getAvailableItems(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList());
         this.par = null;
+        this.overlayOf = null;
+        this.resolved = null;
     }
 
     public MECraftingInventory(final IItemList<IAEItemStack> itemList) {
@@ -168,6 +222,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         }
 
         this.par = null;
+        this.overlayOf = null;
+        this.resolved = null;
     }
 
     @Override
@@ -180,6 +236,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
             if (this.logInjections) {
                 this.injectedCache.add(input);
             }
+            this.resolve(input);
             this.localCache.add(input);
         }
 
@@ -192,7 +249,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
             return null;
         }
 
-        final IAEItemStack list = this.localCache.findPrecise(request);
+        final IAEItemStack list = this.resolve(request);
         if (list == null || list.getStackSize() == 0) {
             return null;
         }
@@ -223,6 +280,14 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
     @Override
     public IItemList<IAEItemStack> getAvailableItems(final IItemList<IAEItemStack> out) {
+        if (this.overlayOf != null) {
+            for (final IAEItemStack is : this.overlayOf.getAvailableItems(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList())) {
+                if (!this.resolved.contains(is)) {
+                    out.add(is);
+                }
+            }
+        }
+
         for (final IAEItemStack is : this.localCache) {
             out.add(is);
         }
@@ -235,10 +300,47 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         return AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
     }
 
+    /**
+     * For overlays this only contains the items touched so far, use {@link #findPrecise(IAEItemStack)} and
+     * {@link #findFuzzy(IAEItemStack, FuzzyMode)} to look up items.
+     */
     public IItemList<IAEItemStack> getItemList() {
         return this.localCache;
     }
 
+    public IAEItemStack findPrecise(final IAEItemStack what) {
+        return this.resolve(what);
+    }
+
+    public Collection<IAEItemStack> findFuzzy(final IAEItemStack what, final FuzzyMode mode) {
+        if (this.overlayOf == null) {
+            return this.localCache.findFuzzy(what, mode);
+        }
+
+        for (final IAEItemStack is : this.overlayOf.findFuzzy(what, mode)) {
+            this.resolve(is);
+        }
+
+        // a copy, so callers dropping empty entries do not make the overlay forget what it already resolved
+        return new ArrayList<>(this.localCache.findFuzzy(what, mode));
+    }
+
+    /**
+     * Pulls the parent's stack for this item into an overlay the first time it is touched.
+     */
+    private IAEItemStack resolve(final IAEItemStack what) {
+        if (this.overlayOf != null && !this.resolved.contains(what)) {
+            this.resolved.add(what.copy());
+
+            final IAEItemStack inherited = this.overlayOf.findPrecise(what);
+            if (inherited != null) {
+                this.localCache.add(inherited);
+            }
+        }
+
+        return this.localCache.findPrecise(what);
+    }
+
     public boolean commit(final IActionSource src) {
         final IItemList<IAEItemStack> added = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
         final IItemList<IAEItemStack> pulled = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
@@ -312,7 +414,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
     }
 
     void ignore(final IAEItemStack what) {
-        final IAEItemStack list = this.localCache.findPrecise(what);
+        final IAEItemStack list = this.resolve(what);
         if (list != null) {
             list.setStackSize(0);
         }
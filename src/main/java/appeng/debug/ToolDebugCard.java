@@ -30,14 +30,17 @@ import appeng.api.networking.ticking.ITickManager;
 import appeng.api.parts.IPart;
 import appeng.api.parts.IPartHost;
 import appeng.api.util.AEPartLocation;
+import appeng.crafting.CraftingCalculationScheduler;
 import appeng.hooks.TickHandler;
 import appeng.items.AEBaseItem;
 import appeng.me.Grid;
 import appeng.me.GridNode;
+import appeng.me.cache.CraftingGridCache;
 import appeng.me.cache.TickManagerCache;
 import appeng.parts.p2p.PartP2PTunnel;
 import appeng.tile.networking.TileController;
 import appeng.util.Platform;
+import appeng.util.item.AEItemStackRegistry;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
@@ -70,6 +73,11 @@ public class ToolDebugCard extends AEBaseItem {
 
             this.outputMsg(player, "Grids: " + grids);
             this.outputMsg(player, "Total Nodes: " + totalNodes);
+
+            final CraftingCalculationScheduler scheduler = CraftingGridCache.getCalculationScheduler();
+            this.outputMsg(player, "Crafting Calculations: " + scheduler.getRunningRequests() + " running, " + scheduler.getQueuedRequests() + " queued, " + scheduler.getSupersededRequests() + " superseded");
+            this.outputMsg(player, "Crafting Calculation Wait: " + this.timeMeasurement(scheduler.getAverageWaitNanos()) + " avg, " + this.timeMeasurement(scheduler.getMaxWaitNanos()) + " max");
+            this.outputMsg(player, "Item Stack Registry: " + AEItemStackRegistry.getLiveEntries() + " entries, " + (int) (AEItemStackRegistry.getHitRate() * 100) + "% hits");
         } else {
             final TileEntity te = world.getTileEntity(pos);
 
@@ -120,6 +128,9 @@ public class ToolDebugCard extends AEBaseItem {
                     }
 
                     final TickManagerCache tmc = g.getCache(ITickManager.class);
+                    this.outputMsg(player, "Device Ticks: " + tmc.getTicksExecuted() + "; " + this.timeMeasurement(tmc.getTickNanos()));
+                    this.outputMsg(player, "Grid Update: " + this.timeMeasurement(g.getAverageUpdateNanos()) + " avg");
+
                     for (final Class<? extends IGridHost> c : g.getMachineClasses()) {
                         int o = 0;
                         long nanos = 0;
@@ -1009,15 +1009,33 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
     @Override
     public boolean pushPattern(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
+        return this.pushPatterns(patternDetails, table, 1) > 0;
+    }
+
+    /**
+     * Blocking mode and the crafting locks wait for each copy to be processed before sending the next.
+     */
+    @Override
+    public boolean canPushMultipleCopies() {
+        final LockCraftingMode lockMode = (LockCraftingMode) this.cm.getSetting(Settings.UNLOCK);
+        return !this.isBlocking() && lockMode != LockCraftingMode.LOCK_UNTIL_PULSE && lockMode != LockCraftingMode.LOCK_UNTIL_RESULT;
+    }
+
+    @Override
+    public int pushPatterns(final ICraftingPatternDetails patternDetails, final InventoryCrafting table, int copies) {
         if (this.hasItemsToSend() || this.hasItemsToSendFacing() || !this.gridProxy.isActive() || !this.craftingList.contains(patternDetails)) {
-            return false;
+            return 0;
         }
 
         final TileEntity tile = this.iHost.getTileEntity();
         final World w = tile.getWorld();
 
         if (getCraftingLockedReason() != LockCraftingMode.NONE) {
-            return false;
+            return 0;
+        }
+
+        if (!this.canPushMultipleCopies()) {
+            copies = 1;
         }
 
         if (this.visitedFaces.isEmpty()) {
@@ -1056,34 +1074,17 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                         } else {
                             IMEMonitor<IAEItemStack> inv = sm.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
 
-                            var allItemsCanBeInserted = true;
-                            for (int x = 0; x < table.getSizeInventory(); x++) {
-                                final ItemStack is = table.getStackInSlot(x);
-                                if (is.isEmpty()) {
-                                    continue;
-                                }
-                                IAEItemStack result = inv.injectItems(AEItemStack.fromItemStack(is), Actionable.SIMULATE, this.mySource);
-                                if (result != null) {
-                                    allItemsCanBeInserted = false;
-                                    break;
-                                }
-                            }
-
-                            if (!allItemsCanBeInserted) {
+                            final int fit = copies > 1 && !this.acceptsItems(inv, table, copies) ? 1 : copies;
+                            if (!this.acceptsItems(inv, table, fit)) {
                                 continue;
                             }
 
                             this.visitedFaces.clear();
-                            for (int x = 0; x < table.getSizeInventory(); x++) {
-                                final ItemStack is = table.getStackInSlot(x);
-                                if (!is.isEmpty()) {
-                                    addToSendListFacing(is, s);
-                                }
-                            }
+                            this.addToSendListFacing(table, fit, s);
                             onPushPatternSuccess(patternDetails);
                             pushItemsOut(s);
 
-                            return true;
+                            return fit;
                         }
                     }
                 } catch (final GridAccessException e) {
@@ -1097,7 +1098,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                     visitedFaces.remove(s);
                     if (cm.pushPattern(patternDetails, table, s.getOpposite())) {
                         onPushPatternSuccess(patternDetails);
-                        return true;
+                        return 1;
                     }
                     continue;
                 }
@@ -1129,22 +1130,18 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                     }
                 }
 
-                if (this.acceptsItems(ad, table)) {
+                final int fit = copies > 1 && !this.acceptsItems(ad, table, copies) ? 1 : copies;
+                if (this.acceptsItems(ad, table, fit)) {
                     this.visitedFaces.clear();
-                    for (int x = 0; x < table.getSizeInventory(); x++) {
-                        final ItemStack is = table.getStackInSlot(x);
-                        if (!is.isEmpty()) {
-                            addToSendListFacing(is, s);
-                        }
-                    }
+                    this.addToSendListFacing(table, fit, s);
                     onPushPatternSuccess(patternDetails);
                     pushItemsOut(s);
-                    return true;
+                    return fit;
                 }
             }
             visitedFaces.remove(s);
         }
-        return false;
+        return 0;
     }
 
     public void resetCraftingLock() {
@@ -1288,14 +1285,59 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         return this.cm.getSetting(Settings.BLOCK) == YesNo.YES;
     }
 
-    private boolean acceptsItems(final InventoryAdaptor ad, final InventoryCrafting table) {
+    private boolean acceptsItems(final InventoryAdaptor ad, final InventoryCrafting table, final int copies) {
+        final List<ItemStack> inputs = new ArrayList<>();
         for (int x = 0; x < table.getSizeInventory(); x++) {
             final ItemStack is = table.getStackInSlot(x);
             if (is.isEmpty()) {
                 continue;
             }
 
-            if (!ad.simulateAdd(is).isEmpty()) {
+            final ItemStack all = is.copy();
+            all.setCount(is.getCount() * copies);
+            inputs.add(all);
+        }
+
+        // the inputs compete for the same free slots, so they have to fit together.
+        return ad.simulateAddAll(inputs);
+    }
+
+    private boolean acceptsItems(final IMEMonitor<IAEItemStack> inv, final InventoryCrafting table, final int copies) {
+        // a network can not simulate several insertions in a row and different types compete for the same cell space,
+        // so batches only go there when all inputs are the same item, checked as a single stack.
+        if (copies > 1) {
+            IAEItemStack all = null;
+            for (int x = 0; x < table.getSizeInventory(); x++) {
+                final ItemStack is = table.getStackInSlot(x);
+                if (is.isEmpty()) {
+                    continue;
+                }
+
+                final IAEItemStack input = AEItemStack.fromItemStack(is);
+                input.setStackSize((long) is.getCount() * copies);
+
+                if (all == null) {
+                    all = input;
+                } else if (all.equals(input)) {
+                    all.incStackSize(input.getStackSize());
+                } else {
+                    return false;
+                }
+            }
+
+            return all == null || inv.injectItems(all, Actionable.SIMULATE, this.mySource) == null;
+        }
+
+        for (int x = 0; x < table.getSizeInventory(); x++) {
+            final ItemStack is = table.getStackInSlot(x);
+            if (is.isEmpty()) {
+                continue;
+            }
+
+            final IAEItemStack all = AEItemStack.fromItemStack(is);
+            all.setStackSize((long) is.getCount() * copies);
+
+            if (inv.injectItems(all, Actionable.SIMULATE, this.mySource) != null) {
                 return false;
             }
         }
@@ -1303,6 +1345,31 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         return true;
     }
 
+    /**
+     * Queues the inputs of the given copies of a pattern for one side, split into stacks the target can hold.
+     */
+    private void addToSendListFacing(final InventoryCrafting table, final int copies, final EnumFacing f) {
+        for (int x = 0; x < table.getSizeInventory(); x++) {
+            final ItemStack is = table.getStackInSlot(x);
+            if (is.isEmpty()) {
+                continue;
+            }
+
+            if (copies == 1) {
+                this.addToSendListFacing(is, f);
+                continue;
+            }
+
+            long remaining = (long) is.getCount() * copies;
+            while (remaining > 0) {
+                final ItemStack part = is.copy();
+                part.setCount((int) Math.min(remaining, Math.max(is.getMaxStackSize(), is.getCount())));
+                remaining -= part.getCount();
+                this.addToSendListFacing(part, f);
+            }
+        }
+    }
+
     @Override
     public void provideCrafting(final ICraftingProviderHelper craftingTracker) {
         if (this.gridProxy.isActive() && this.craftingList != null) {
@@ -33,6 +33,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -106,6 +107,9 @@ public class MultiCraftingTracker {
                         // :P
                     } catch (final ExecutionException e) {
                         // :P
+                    } catch (final CancellationException e) {
+                        // replaced by a newer request, try again next time.
+                        this.setJob(x, null);
                     }
                 } else {
                     if (this.getLink(x) == null) {
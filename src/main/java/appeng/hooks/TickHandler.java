@@ -20,7 +20,6 @@ package appeng.hooks;
 
 
 import appeng.api.AEApi;
-import appeng.api.networking.IGridNode;
 import appeng.api.parts.CableRenderMode;
 import appeng.api.util.AEColor;
 import appeng.core.AEConfig;
@@ -29,6 +28,8 @@ import appeng.core.AppEng;
 import appeng.core.sync.packets.PacketPaintedEntity;
 import appeng.crafting.CraftingJob;
 import appeng.me.Grid;
+import appeng.me.GridNode;
+import appeng.me.GridUpdateScheduler;
 import appeng.tile.AEBaseTile;
 import appeng.util.IWorldCallable;
 import appeng.util.Platform;
@@ -36,7 +37,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -51,6 +58,12 @@ import java.util.concurrent.TimeUnit;
 public class TickHandler {
 
     public static final TickHandler INSTANCE = new TickHandler();
+
+    /**
+     * Server ticks between two checks whether a player came near a tile with a held back visual update.
+     */
+    private static final int DEFERRED_UPDATE_INTERVAL = 20;
+
     private final Queue<IWorldCallable<?>> serverQueue = new ArrayDeque<>();
     private final Multimap<World, CraftingJob> craftingJobs = LinkedListMultimap.create();
     private final WeakHashMap<World, Queue<IWorldCallable<?>>> callQueue = new WeakHashMap<>();
@@ -123,31 +136,101 @@ public class TickHandler {
         }
     }
 
+    /**
+     * Remembers which world and chunk a node lives in, so unloading either only has to look at the nodes inside it.
+     *
+     * @param chunk the chunk as packed by {@link ChunkPos#asLong}
+     */
+    public void addNode(final World world, final long chunk, final GridNode node) {
+        if (Platform.isServer()) {
+            this.getRepo().nodes.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>())
+                    .computeIfAbsent(chunk, c -> new HashSet<>())
+                    .add(node);
+        }
+    }
+
+    /**
+     * @return true if the node belongs to an unloaded chunk and will be destroyed together with the rest of it.
+     */
+    public boolean isUnloading(final GridNode node) {
+        return this.getRepo().unloadedNodes.contains(node);
+    }
+
+    public void removeNode(final World world, final long chunk, final GridNode node) {
+        final Long2ObjectMap<Set<GridNode>> chunks = this.getRepo().nodes.get(world);
+        if (chunks != null) {
+            final Set<GridNode> nodes = chunks.get(chunk);
+            if (nodes != null && nodes.remove(node) && nodes.isEmpty()) {
+                chunks.remove(chunk);
+            }
+        }
+    }
+
+    /**
+     * Sends a change to the clients which only shows up close to the tile, like the channels displayed on a cable. With
+     * a channel update range configured and no player that near, it is held back until one comes closer.
+     */
+    public void markForVisualUpdate(final AEBaseTile tile) {
+        if (Platform.isServer() && tile.getWorld() != null && !isPlayerInUpdateRange(tile)) {
+            this.getRepo().deferredUpdates.add(tile);
+        } else {
+            tile.markForUpdate();
+        }
+    }
+
+    private static boolean isPlayerInUpdateRange(final AEBaseTile tile) {
+        final int range = AEConfig.instance().getChannelUpdateRange();
+        if (range <= 0) {
+            return true;
+        }
+
+        final BlockPos pos = tile.getPos();
+        return tile.getWorld().isAnyPlayerWithinRangeAt(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, range);
+    }
+
     public Iterable<Grid> getGridList() {
         return this.getRepo().networks;
     }
 
     public void shutdown() {
         this.getRepo().clear();
+        TickProfiler.INSTANCE.stop();
     }
 
     @SubscribeEvent
     public void unloadWorld(final WorldEvent.Unload ev) {
         if (Platform.isServer()) // for no there is no reason to care about this on the client...
         {
-            final List<IGridNode> toDestroy = new ArrayList<>();
-
-            this.getRepo().updateNetworks();
-            for (final Grid g : this.getRepo().networks) {
-                for (final IGridNode n : g.getNodes()) {
-                    if (n.getWorld() == ev.getWorld()) {
-                        toDestroy.add(n);
-                    }
+            // the world was saved by now, so the nodes of its unloaded chunks can go as well.
+            this.getRepo().destroyUnloadedNodes();
+
+            final Long2ObjectMap<Set<GridNode>> chunks = this.getRepo().nodes.remove(ev.getWorld());
+            if (chunks != null) {
+                final List<GridNode> toDestroy = new ArrayList<>();
+                for (final Set<GridNode> nodes : chunks.values()) {
+                    toDestroy.addAll(nodes);
                 }
+
+                Grid.destroyNodes(toDestroy);
             }
+        }
+    }
 
-            for (final IGridNode n : toDestroy) {
-                n.destroy();
+    /**
+     * Fired before the chunk is saved and its tiles are told about the unload. The chunk's nodes have to keep their grid
+     * storage until the tiles were written, so they are only queued here and leave their grids in one go at the end of
+     * the server tick, instead of node by node.
+     */
+    @SubscribeEvent
+    public void unloadChunk(final ChunkEvent.Unload ev) {
+        if (Platform.isServer() && !ev.getWorld().isRemote) {
+            final Long2ObjectMap<Set<GridNode>> chunks = this.getRepo().nodes.get(ev.getWorld());
+            if (chunks != null) {
+                final Chunk chunk = ev.getChunk();
+                final Set<GridNode> nodes = chunks.remove(ChunkPos.asLong(chunk.x, chunk.z));
+                if (nodes != null) {
+                    this.getRepo().unloadedNodes.addAll(nodes);
+                }
             }
         }
     }
@@ -183,6 +266,10 @@ public class TickHandler {
             this.tickColors(this.srvPlayerColors);
             // ready tiles.
             final HandlerRep repo = this.getRepo();
+
+            // nodes of chunks which were unloaded and saved during this tick, before their tiles are replaced.
+            repo.destroyUnloadedNodes();
+
             while (!repo.tiles.isEmpty()) {
                 final AEBaseTile bt = repo.tiles.poll();
                 if (!bt.isInvalid()) {
@@ -192,9 +279,10 @@ public class TickHandler {
 
             // tick networks.
             this.getRepo().updateNetworks();
-            for (final Grid g : this.getRepo().networks) {
-                g.update();
-            }
+            this.getRepo().scheduler.update(this.getRepo().networks);
+
+            // visual updates waiting for a player to come near.
+            this.getRepo().sendDeferredUpdates();
 
             // cross world queue.
             this.processQueue(this.serverQueue, null);
@@ -252,12 +340,47 @@ public class TickHandler {
         private Set<Grid> networks = new HashSet<>();
         private Set<Grid> toAdd = new HashSet<>();
         private Set<Grid> toRemove = new HashSet<>();
+        private Map<World, Long2ObjectMap<Set<GridNode>>> nodes = new HashMap<>();
+        private Set<GridNode> unloadedNodes = new LinkedHashSet<>();
+        private final GridUpdateScheduler scheduler = new GridUpdateScheduler();
+        private Set<AEBaseTile> deferredUpdates = new LinkedHashSet<>();
+        private int deferredUpdateTicks = 0;
 
         private void clear() {
             this.tiles = new ArrayDeque<>();
             this.networks = new HashSet<>();
             this.toAdd = new HashSet<>();
             this.toRemove = new HashSet<>();
+            this.nodes = new HashMap<>();
+            this.unloadedNodes = new LinkedHashSet<>();
+            this.scheduler.clear();
+            this.deferredUpdates = new LinkedHashSet<>();
+        }
+
+        private void destroyUnloadedNodes() {
+            if (!this.unloadedNodes.isEmpty()) {
+                final List<GridNode> toDestroy = new ArrayList<>(this.unloadedNodes);
+                this.unloadedNodes.clear();
+                Grid.destroyNodes(toDestroy);
+            }
+        }
+
+        private void sendDeferredUpdates() {
+            if (this.deferredUpdates.isEmpty() || ++this.deferredUpdateTicks < DEFERRED_UPDATE_INTERVAL) {
+                return;
+            }
+            this.deferredUpdateTicks = 0;
+
+            final Iterator<AEBaseTile> it = this.deferredUpdates.iterator();
+            while (it.hasNext()) {
+                final AEBaseTile tile = it.next();
+                if (tile.isInvalid() || !tile.getWorld().isBlockLoaded(tile.getPos())) {
+                    it.remove();
+                } else if (isPlayerInUpdateRange(tile)) {
+                    it.remove();
+                    tile.markForUpdate();
+                }
+            }
         }
 
         private synchronized void addNetwork(Grid g) {
@@ -0,0 +1,394 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks;
+
+
+import appeng.api.networking.IGridNode;
+import appeng.api.util.DimensionalCoord;
+import appeng.core.AELog;
+import appeng.me.Grid;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+
+/**
+ * Measures the time and memory allocated by networks, their caches, ticking machines and network events on the server
+ * thread. Results are collected for a window of ticks and then kept as a {@link Report}, which can also be written to
+ * disk after every window.
+ * <p>
+ * Profiled code checks {@link #isEnabled()} before calling {@link #startSection()} and {@link #endSection}, so a
+ * stopped profiler only costs a single field read.
+ */
+public final class TickProfiler {
+
+    public static final TickProfiler INSTANCE = new TickProfiler();
+
+    private static final int MAX_DEPTH = 32;
+    private static final int KEPT_EXPORTS = 10;
+    private static final String EXPORT_PREFIX = "ae2-profile-";
+
+    private static boolean enabled = false;
+
+    private final Map<Category, Map<Object, Section>> sections = new EnumMap<>(Category.class);
+    private final long[] startNanos = new long[MAX_DEPTH];
+    private final long[] startBytes = new long[MAX_DEPTH];
+    private final com.sun.management.ThreadMXBean allocations;
+    private int depth;
+    private Thread thread;
+    private int windowTicks;
+    private int ticks;
+    private Report lastReport;
+    private File exportDirectory;
+    private ExportFormat exportFormat;
+
+    private TickProfiler() {
+        for (final Category category : Category.values()) {
+            this.sections.put(category, new HashMap<>());
+        }
+
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            this.allocations = (com.sun.management.ThreadMXBean) threads;
+        } else {
+            this.allocations = null;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts profiling the calling thread, which has to be the server thread.
+     *
+     * @param windowTicks the number of ticks each report covers
+     */
+    public void start(final int windowTicks) {
+        this.clear();
+        this.windowTicks = Math.max(1, windowTicks);
+        this.thread = Thread.currentThread();
+
+        if (this.allocations != null && !this.allocations.isThreadAllocatedMemoryEnabled()) {
+            this.allocations.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        enabled = true;
+    }
+
+    /**
+     * Stops profiling, the last finished report stays available.
+     */
+    public void stop() {
+        enabled = false;
+        this.thread = null;
+        this.clearSections();
+    }
+
+    public void startSection() {
+        if (Thread.currentThread() != this.thread) {
+            return;
+        }
+
+        final int d = this.depth++;
+        if (d < MAX_DEPTH) {
+            this.startBytes[d] = this.allocatedBytes();
+            this.startNanos[d] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Ends the innermost section started with {@link #startSection()} and adds it to the given key, usually a
+     * {@link Grid} or the class of a cache, machine or event.
+     */
+    public void endSection(final Category category, final Object key) {
+        if (Thread.currentThread() != this.thread || this.depth == 0) {
+            return;
+        }
+
+        final int d = --this.depth;
+        if (d >= MAX_DEPTH) {
+            return;
+        }
+
+        final long nanos = System.nanoTime() - this.startNanos[d];
+        final long bytes = this.allocatedBytes() - this.startBytes[d];
+
+        final Map<Object, Section> categorySections = this.sections.get(category);
+        Section section = categorySections.get(key);
+        if (section == null) {
+            section = new Section(category, describe(key));
+            categorySections.put(key, section);
+        }
+
+        section.add(nanos, bytes);
+    }
+
+    /**
+     * Called once at the end of every server tick, finishes the current report once its window is full.
+     */
+    public void endTick() {
+        if (Thread.currentThread() != this.thread) {
+            return;
+        }
+
+        // sections left open by an exception must not leak into the next tick
+        this.depth = 0;
+
+        if (++this.ticks < this.windowTicks) {
+            return;
+        }
+
+        final List<Section> finished = new ArrayList<>();
+        for (final Map<Object, Section> categorySections : this.sections.values()) {
+            finished.addAll(categorySections.values());
+            categorySections.clear();
+        }
+        finished.sort(Comparator.comparingLong(Section::getNanos).reversed());
+
+        this.lastReport = new Report(this.ticks, System.currentTimeMillis(), finished);
+        this.ticks = 0;
+
+        if (this.exportFormat != null) {
+            this.export(this.lastReport, this.exportFormat);
+        }
+    }
+
+    /**
+     * @return the report of the last full window, or null if none has been finished since profiling started.
+     */
+    public Report getLastReport() {
+        return this.lastReport;
+    }
+
+    /**
+     * Writes every following report into the given directory, keeping only the latest few files. A null format stops
+     * exporting.
+     */
+    public void setExport(final File directory, final ExportFormat format) {
+        this.exportDirectory = directory;
+        this.exportFormat = format;
+    }
+
+    /**
+     * @return the file the report was written to, or null if writing failed.
+     */
+    public File export(final Report report, final ExportFormat format) {
+        final File directory = this.exportDirectory;
+        if (directory == null || (!directory.isDirectory() && !directory.mkdirs())) {
+            AELog.warn("Unable to create the profiler report directory " + directory);
+            return null;
+        }
+
+        final String time = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(report.getEndMillis()));
+        final File file = new File(directory, EXPORT_PREFIX + time + '.' + format.extension);
+
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            format.write(report, writer);
+        } catch (final IOException e) {
+            AELog.warn(e, "Unable to write profiler report " + file);
+            return null;
+        }
+
+        this.deleteOldExports(directory);
+        return file;
+    }
+
+    private void deleteOldExports(final File directory) {
+        final File[] files = directory.listFiles((dir, name) -> name.startsWith(EXPORT_PREFIX));
+        if (files == null || files.length <= KEPT_EXPORTS) {
+            return;
+        }
+
+        // the timestamp in the name sorts them from oldest to newest
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        for (int i = 0; i < files.length - KEPT_EXPORTS; i++) {
+            if (!files[i].delete()) {
+                AELog.warn("Unable to delete old profiler report " + files[i]);
+            }
+        }
+    }
+
+    private void clear() {
+        this.clearSections();
+        this.lastReport = null;
+    }
+
+    private void clearSections() {
+        for (final Map<Object, Section> categorySections : this.sections.values()) {
+            categorySections.clear();
+        }
+
+        this.depth = 0;
+        this.ticks = 0;
+    }
+
+    private long allocatedBytes() {
+        return this.allocations != null ? this.allocations.getThreadAllocatedBytes(this.thread.getId()) : 0;
+    }
+
+    private static String describe(final Object key) {
+        if (key instanceof Class) {
+            return ((Class<?>) key).getName();
+        }
+
+        if (key instanceof Grid) {
+            final IGridNode pivot = ((Grid) key).getPivot();
+            final DimensionalCoord location = pivot != null ? pivot.getGridBlock().getLocation() : null;
+            return "Grid@" + Integer.toHexString(System.identityHashCode(key)) + (location != null ? " " + location : "");
+        }
+
+        return String.valueOf(key);
+    }
+
+    public enum Category {
+        GRID, CACHE, MACHINE, EVENT
+    }
+
+    public enum ExportFormat {
+        CSV("csv") {
+            @Override
+            void write(final Report report, final Writer writer) {
+                final PrintWriter out = new PrintWriter(writer);
+                out.println("category,name,calls,totalMs,avgUsPerTick,maxUs,allocatedBytes");
+
+                for (final Section s : report.getSections()) {
+                    out.println(s.getCategory() + ",\"" + s.getName().replace("\"", "\"\"") + "\"," + s.getCalls() + ',' + s.getNanos() / 1_000_000.0 + ',' + s.getNanos() / 1_000.0 / report.getTicks() + ',' + s.getMaxNanos() / 1_000.0 + ',' + s.getAllocatedBytes());
+                }
+
+                out.flush();
+            }
+        },
+        JSON("json") {
+            @Override
+            void write(final Report report, final Writer writer) throws IOException {
+                final JsonWriter out = new JsonWriter(writer);
+                out.setIndent("  ");
+
+                out.beginObject();
+                out.name("ticks").value(report.getTicks());
+                out.name("endMillis").value(report.getEndMillis());
+                out.name("sections").beginArray();
+
+                for (final Section s : report.getSections()) {
+                    out.beginObject();
+                    out.name("category").value(s.getCategory().name());
+                    out.name("name").value(s.getName());
+                    out.name("calls").value(s.getCalls());
+                    out.name("nanos").value(s.getNanos());
+                    out.name("maxNanos").value(s.getMaxNanos());
+                    out.name("allocatedBytes").value(s.getAllocatedBytes());
+                    out.endObject();
+                }
+
+                out.endArray();
+                out.endObject();
+                out.flush();
+            }
+        };
+
+        private final String extension;
+
+        ExportFormat(final String extension) {
+            this.extension = extension;
+        }
+
+        abstract void write(Report report, Writer writer) throws IOException;
+    }
+
+    public static final class Report {
+        private final int ticks;
+        private final long endMillis;
+        private final List<Section> sections;
+
+        private Report(final int ticks, final long endMillis, final List<Section> sections) {
+            this.ticks = ticks;
+            this.endMillis = endMillis;
+            this.sections = Collections.unmodifiableList(sections);
+        }
+
+        public int getTicks() {
+            return this.ticks;
+        }
+
+        public long getEndMillis() {
+            return this.endMillis;
+        }
+
+        /**
+         * @return all sections of this report, the most expensive first.
+         */
+        public List<Section> getSections() {
+            return this.sections;
+        }
+    }
+
+    public static final class Section {
+        private final Category category;
+        private final String name;
+        private long calls;
+        private long nanos;
+        private long maxNanos;
+        private long allocatedBytes;
+
+        private Section(final Category category, final String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        private void add(final long nanos, final long bytes) {
+            this.calls++;
+            this.nanos += nanos;
+            this.maxNanos = Math.max(this.maxNanos, nanos);
+            this.allocatedBytes += bytes;
+        }
+
+        public Category getCategory() {
+            return this.category;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public long getCalls() {
+            return this.calls;
+        }
+
+        public long getNanos() {
+            return this.nanos;
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return this.allocatedBytes;
+        }
+    }
+}
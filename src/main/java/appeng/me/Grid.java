@@ -26,6 +26,7 @@ import appeng.api.networking.events.MENetworkPostCacheConstruction;
 import appeng.api.util.IReadOnlyCollection;
 import appeng.core.worlddata.WorldData;
 import appeng.hooks.TickHandler;
+import appeng.hooks.TickProfiler;
 import appeng.util.ReadOnlyCollection;
 
 import java.util.*;
@@ -36,9 +37,11 @@ public class Grid implements IGrid {
     private final NetworkEventBus eventBus = new NetworkEventBus();
     private final Map<Class<? extends IGridHost>, MachineSet> machines = new HashMap<>();
     private final Map<Class<? extends IGridCache>, GridCacheWrapper> caches = new HashMap<>();
+    private final Deque<IGridTask> tasks = new ArrayDeque<>();
     private GridNode pivot;
     private int priority; // how import is this network?
     private GridStorage myStorage;
+    private long averageUpdateNanos;
 
     public Grid(final GridNode center) {
         this.pivot = center;
@@ -170,6 +173,153 @@ public class Grid implements IGrid {
         // postEventTo( gridNode, networkChanged );
     }
 
+    /**
+     * Moves a group of nodes from another grid into this one, e.g. when two grids merge or one splits. Both grids'
+     * caches are told about the whole group at once, instead of once per node as {@link GridNode#setGrid} does.
+     */
+    void takeNodes(final Grid source, final List<IGridNode> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+
+        for (final IGridCache c : source.caches.values()) {
+            c.removeNodes(nodes);
+        }
+
+        for (final IGridNode node : nodes) {
+            final GridNode gridNode = (GridNode) node;
+            final Set<IGridNode> machineNodes = source.machines.get(gridNode.getMachineClass());
+            if (machineNodes != null) {
+                machineNodes.remove(gridNode);
+            }
+
+            gridNode.setGridStorage(null);
+        }
+
+        if (source.pivot != null && !source.getMachines(source.pivot.getMachineClass()).contains(source.pivot)) {
+            final Iterator<IGridNode> n = source.getNodes().iterator();
+            if (n.hasNext()) {
+                source.pivot = (GridNode) n.next();
+            } else {
+                source.pivot = null;
+                TickHandler.INSTANCE.removeNetwork(source);
+                source.myStorage.remove();
+                source.saveState();
+
+                for (final IGridCache c : this.caches.values()) {
+                    c.onJoin(source.getMyStorage());
+                }
+            }
+        }
+
+        if (this.myStorage == null) {
+            this.myStorage = WorldData.instance().storageData().getNewGridStorage();
+            this.myStorage.setGrid(this);
+        }
+
+        for (final IGridNode node : nodes) {
+            final GridNode gridNode = (GridNode) node;
+            final Class<? extends IGridHost> mClass = gridNode.getMachineClass();
+
+            MachineSet machineNodes = this.machines.get(mClass);
+            if (machineNodes == null) {
+                machineNodes = new MachineSet(mClass);
+                this.machines.put(mClass, machineNodes);
+                this.eventBus.readClass(mClass, mClass);
+            }
+
+            gridNode.assignGrid(this);
+            gridNode.setGridStorage(this.myStorage);
+            machineNodes.add(gridNode);
+        }
+
+        for (final IGridCache c : this.caches.values()) {
+            c.addNodes(nodes);
+        }
+
+        for (final IGridNode node : nodes) {
+            ((GridNode) node).getGridProxy().gridChanged();
+        }
+    }
+
+    /**
+     * Tears down a group of nodes in one go, e.g. everything in an unloading world or chunk. Connections between the
+     * nodes are dropped without re-checking the grid after each one, every grid hears about its lost nodes in a single
+     * {@link IGridCache#removeNodes} call and only the surviving neighbours are checked for a split afterwards.
+     */
+    public static void destroyNodes(final Collection<GridNode> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+
+        final Set<GridNode> destroyed = Collections.newSetFromMap(new IdentityHashMap<>());
+        destroyed.addAll(nodes);
+
+        final Set<GridNode> neighbours = new LinkedHashSet<>();
+        final Map<Grid, List<IGridNode>> byGrid = new IdentityHashMap<>();
+
+        for (final GridNode node : destroyed) {
+            final List<IGridConnection> connections = new ArrayList<>();
+            for (final IGridConnection c : node.getConnections()) {
+                connections.add(c);
+            }
+
+            for (final IGridConnection c : connections) {
+                final GridNode otherSide = (GridNode) c.getOtherSide(node);
+                node.removeConnection(c);
+                otherSide.removeConnection(c);
+
+                if (!destroyed.contains(otherSide)) {
+                    neighbours.add(otherSide);
+                }
+            }
+
+            node.unindex();
+
+            if (node.getMyGrid() != null) {
+                byGrid.computeIfAbsent(node.getMyGrid(), g -> new ArrayList<>()).add(node);
+            }
+        }
+
+        for (final Entry<Grid, List<IGridNode>> e : byGrid.entrySet()) {
+            e.getKey().removeNodes(e.getValue());
+        }
+
+        neighbours.removeIf(n -> n.getMyGrid() == null);
+        for (final GridNode n : neighbours) {
+            n.validateGrid();
+        }
+    }
+
+    private void removeNodes(final List<IGridNode> nodes) {
+        for (final IGridCache c : this.caches.values()) {
+            c.removeNodes(nodes);
+        }
+
+        for (final IGridNode node : nodes) {
+            final GridNode gridNode = (GridNode) node;
+            final Set<IGridNode> machineNodes = this.machines.get(gridNode.getMachineClass());
+            if (machineNodes != null) {
+                machineNodes.remove(gridNode);
+            }
+
+            gridNode.setGridStorage(null);
+            // destroyed for good, a later destroy() from the tile has nothing left to do.
+            gridNode.assignGrid(null);
+        }
+
+        if (this.pivot != null && this.pivot.getMyGrid() != this) {
+            final Iterator<IGridNode> n = this.getNodes().iterator();
+            if (n.hasNext()) {
+                this.pivot = (GridNode) n.next();
+            } else {
+                this.pivot = null;
+                TickHandler.INSTANCE.removeNetwork(this);
+                this.myStorage.remove();
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <C extends IGridCache> C getCache(final Class<? extends IGridCache> iface) {
@@ -178,6 +328,13 @@ public class Grid implements IGrid {
 
     @Override
     public MENetworkEvent postEvent(final MENetworkEvent ev) {
+        if (TickProfiler.isEnabled()) {
+            TickProfiler.INSTANCE.startSection();
+            final MENetworkEvent ret = this.eventBus.postEvent(this, ev);
+            TickProfiler.INSTANCE.endSection(TickProfiler.Category.EVENT, ev.getClass());
+            return ret;
+        }
+
         final MENetworkEvent ret = this.eventBus.postEvent(this, ev);
         return ret;
     }
@@ -223,14 +380,65 @@ public class Grid implements IGrid {
     }
 
     public void update() {
-        for (final IGridCache gc : this.caches.values()) {
+        final boolean profiling = TickProfiler.isEnabled();
+
+        for (final GridCacheWrapper gc : this.caches.values()) {
             // are there any nodes left?
             if (this.pivot != null) {
-                gc.onUpdateTick();
+                if (profiling) {
+                    TickProfiler.INSTANCE.startSection();
+                    gc.onUpdateTick();
+                    TickProfiler.INSTANCE.endSection(TickProfiler.Category.CACHE, gc.getCache().getClass());
+                } else {
+                    gc.onUpdateTick();
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues work that does not have to finish this tick. Tasks run one after another after all grids were updated,
+     * as far as the grid update budget allows.
+     */
+    public void scheduleTask(final IGridTask task) {
+        this.tasks.add(task);
+    }
+
+    boolean hasTasks() {
+        return !this.tasks.isEmpty();
+    }
+
+    void runTasks(final long deadline) {
+        IGridTask task;
+        while ((task = this.tasks.peek()) != null) {
+            if (!task.run(deadline)) {
+                return;
+            }
+
+            this.tasks.poll();
+
+            if (System.nanoTime() >= deadline) {
+                return;
             }
         }
     }
 
+    void recordUpdateTime(final long nanos) {
+        this.averageUpdateNanos = (this.averageUpdateNanos * 15 + nanos) / 16;
+    }
+
+    void recordTaskTime(final long nanos) {
+        // counts towards the sample recordUpdateTime just took for this tick.
+        this.averageUpdateNanos += nanos / 16;
+    }
+
+    /**
+     * @return moving average of the time spent updating this grid and running its tasks per tick
+     */
+    public long getAverageUpdateNanos() {
+        return this.averageUpdateNanos;
+    }
+
     void saveState() {
         for (final IGridCache c : this.caches.values()) {
             c.populateGridStorage(this.myStorage);
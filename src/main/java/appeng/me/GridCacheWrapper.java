@@ -24,6 +24,8 @@ import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridStorage;
 
+import java.util.Collection;
+
 
 public class GridCacheWrapper implements IGridCache {
 
@@ -50,6 +52,16 @@ public class GridCacheWrapper implements IGridCache {
         this.getCache().addNode(gridNode, machine);
     }
 
+    @Override
+    public void removeNodes(final Collection<IGridNode> gridNodes) {
+        this.getCache().removeNodes(gridNodes);
+    }
+
+    @Override
+    public void addNodes(final Collection<IGridNode> gridNodes) {
+        this.getCache().addNodes(gridNodes);
+    }
+
     @Override
     public void onSplit(final IGridStorage storageB) {
         this.getCache().onSplit(storageB);
@@ -34,6 +34,7 @@ import appeng.api.util.IReadOnlyCollection;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.features.AEFeature;
+import appeng.me.cache.PathGridCache;
 import appeng.me.pathfinding.IPathItem;
 import appeng.util.Platform;
 import appeng.util.ReadOnlyCollection;
@@ -91,9 +92,9 @@ public class GridConnection implements IGridConnection, IPathItem {
 
     @Override
     public void destroy() {
-        // a connection was destroyed RE-PATH!!
-        final IPathingGrid p = this.sideA.getInternalGrid().getCache(IPathingGrid.class);
-        p.repath();
+        // a connection was destroyed, release the channels routed over it.
+        final PathGridCache p = this.sideA.getInternalGrid().getCache(IPathingGrid.class);
+        p.onConnectionRemoved(this);
 
         this.sideA.removeConnection(this);
         this.sideB.removeConnection(this);
@@ -231,21 +232,25 @@ public class GridConnection implements IGridConnection, IPathItem {
             if (a.getMyGrid() == null) {
                 final GridPropagator gp = new GridPropagator(b.getInternalGrid());
                 aNode.beginVisit(gp);
+                gp.propagate();
             } else if (b.getMyGrid() == null) {
                 final GridPropagator gp = new GridPropagator(a.getInternalGrid());
                 bNode.beginVisit(gp);
+                gp.propagate();
             } else if (connection.isNetworkABetter(a, b)) {
                 final GridPropagator gp = new GridPropagator(a.getInternalGrid());
                 b.beginVisit(gp);
+                gp.propagate();
             } else {
                 final GridPropagator gp = new GridPropagator(b.getInternalGrid());
                 a.beginVisit(gp);
+                gp.propagate();
             }
         }
 
-        // a connection was destroyed RE-PATH!!
-        final IPathingGrid p = connection.sideA.getInternalGrid().getCache(IPathingGrid.class);
-        p.repath();
+        // a connection was created, route whatever was attached by it.
+        final PathGridCache p = connection.sideA.getInternalGrid().getCache(IPathingGrid.class);
+        p.onConnectionAdded(connection);
 
         connection.sideA.addConnection(connection);
         connection.sideB.addConnection(connection);
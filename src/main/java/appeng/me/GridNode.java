@@ -41,6 +41,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 import java.util.*;
@@ -63,6 +64,9 @@ public class GridNode implements IGridNode, IPathItem {
     private int compressedData = 0;
     private int usedChannels = 0;
     private int lastUsedChannels = 0;
+    // where the node was put into the tick handler's world index
+    private World indexedWorld;
+    private long indexedChunk;
 
     public GridNode(final IGridBlock what) {
         this.gridProxy = what;
@@ -115,8 +119,9 @@ public class GridNode implements IGridNode, IPathItem {
         final GridSplitDetector gsd = new GridSplitDetector(this.getInternalGrid().getPivot());
         this.beginVisit(gsd);
         if (!gsd.isPivotFound()) {
-            final IGridVisitor gp = new GridPropagator(new Grid(this));
+            final GridPropagator gp = new GridPropagator(new Grid(this));
             this.beginVisit(gp);
+            gp.propagate();
         }
     }
 
@@ -179,6 +184,28 @@ public class GridNode implements IGridNode, IPathItem {
 
         this.findConnections();
         this.getInternalGrid();
+        this.index();
+    }
+
+    private void index() {
+        if (this.indexedWorld != null) {
+            return;
+        }
+
+        // nodes which are not in the world themselves, like the outer side of a P2P tunnel, go by their host.
+        final DimensionalCoord dc = this.gridProxy.getLocation();
+        if (dc.getWorld() != null) {
+            this.indexedWorld = dc.getWorld();
+            this.indexedChunk = ChunkPos.asLong(dc.x >> 4, dc.z >> 4);
+            TickHandler.INSTANCE.addNode(this.indexedWorld, this.indexedChunk, this);
+        }
+    }
+
+    void unindex() {
+        if (this.indexedWorld != null) {
+            TickHandler.INSTANCE.removeNode(this.indexedWorld, this.indexedChunk, this);
+            this.indexedWorld = null;
+        }
     }
 
     @Override
@@ -212,8 +239,20 @@ public class GridNode implements IGridNode, IPathItem {
         this.myGrid.add(this);
     }
 
+    /**
+     * Only updates the reference, used by {@link Grid#takeNodes} which does the bookkeeping for a whole group.
+     */
+    void assignGrid(final Grid grid) {
+        this.myGrid = grid;
+    }
+
     @Override
     public void destroy() {
+        // the tick handler tears down the nodes of an unloaded chunk together, once the chunk was saved.
+        if (TickHandler.INSTANCE.isUnloading(this)) {
+            return;
+        }
+
         while (!this.connections.isEmpty()) {
             // not part of this network for real anymore.
             if (this.connections.size() == 1) {
@@ -229,6 +268,8 @@ public class GridNode implements IGridNode, IPathItem {
         if (this.myGrid != null) {
             this.myGrid.remove(this);
         }
+
+        this.unindex();
     }
 
     @Override
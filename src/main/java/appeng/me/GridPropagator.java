@@ -22,9 +22,19 @@ package appeng.me;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridVisitor;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
+
+/**
+ * Collects the nodes reachable from where the visit starts that are not yet part of the target grid, then moves them
+ * over grouped by their previous grid with {@link #propagate()}.
+ */
 public class GridPropagator implements IGridVisitor {
     private final Grid g;
+    private final Map<Grid, List<IGridNode>> moves = new IdentityHashMap<>();
 
     public GridPropagator(final Grid g) {
         this.g = g;
@@ -33,11 +43,27 @@ public class GridPropagator implements IGridVisitor {
     @Override
     public boolean visitNode(final IGridNode n) {
         final GridNode gn = (GridNode) n;
-        if (gn.getMyGrid() != this.g || this.g.getPivot() == n) {
-            gn.setGrid(this.g);
+        final Grid source = gn.getMyGrid();
+        if (source != this.g) {
+            if (source == null) {
+                // new nodes might bring stored grid data along, which only setGrid knows how to load.
+                gn.setGrid(this.g);
+            } else {
+                this.moves.computeIfAbsent(source, k -> new ArrayList<>()).add(gn);
+            }
 
             return true;
         }
-        return false;
+        return this.g.getPivot() == n;
+    }
+
+    /**
+     * Moves the collected nodes, call this once the visit is complete.
+     */
+    public void propagate() {
+        for (final Map.Entry<Grid, List<IGridNode>> move : this.moves.entrySet()) {
+            this.g.takeNodes(move.getKey(), move.getValue());
+        }
+        this.moves.clear();
     }
 }
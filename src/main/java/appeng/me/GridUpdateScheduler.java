@@ -0,0 +1,121 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+
+import appeng.core.AEConfig;
+import appeng.hooks.TickProfiler;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Updates all grids once per server tick and then spends what is left of the configured budget on the tasks the grids
+ * queued with {@link Grid#scheduleTask}.
+ * <p>
+ * Grids with tasks take turns: the remaining budget is split evenly between the grids still waiting, a grid that could
+ * not finish goes to the back of the line and whoever did not get a turn this tick goes first on the next one. A single
+ * large grid therefore cannot keep the small ones from finishing their work.
+ */
+public class GridUpdateScheduler {
+
+    // even a nearly used up budget gives each grid this long, otherwise nothing would make progress
+    private static final long MIN_SLICE_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    // grids with tasks left, in the order they get their next turn
+    private final Set<Grid> pending = new LinkedHashSet<>();
+
+    public void update(final Collection<Grid> grids) {
+        final long start = System.nanoTime();
+        final boolean profiling = TickProfiler.isEnabled();
+
+        for (final Grid g : grids) {
+            final long gridStart = System.nanoTime();
+
+            if (profiling) {
+                TickProfiler.INSTANCE.startSection();
+                g.update();
+                TickProfiler.INSTANCE.endSection(TickProfiler.Category.GRID, g);
+            } else {
+                g.update();
+            }
+
+            g.recordUpdateTime(System.nanoTime() - gridStart);
+
+            if (g.hasTasks()) {
+                this.pending.add(g);
+            }
+        }
+
+        this.runTasks(start, profiling);
+
+        if (profiling) {
+            TickProfiler.INSTANCE.endTick();
+        }
+    }
+
+    private void runTasks(final long start, final boolean profiling) {
+        final long budget = TimeUnit.MILLISECONDS.toNanos(AEConfig.instance().getGridUpdateBudget());
+        final long deadline = budget > 0 ? start + budget : Long.MAX_VALUE;
+
+        boolean first = true;
+        while (!this.pending.isEmpty()) {
+            final long now = System.nanoTime();
+            if (!first && now >= deadline) {
+                return;
+            }
+
+            final Iterator<Grid> i = this.pending.iterator();
+            final Grid g = i.next();
+            i.remove();
+
+            // retired grids drop whatever they had left. Their caches retire with them, anything that moves on to another
+            // grid, like a crafting CPU, has to queue its work again there.
+            if (g.isEmpty()) {
+                continue;
+            }
+
+            first = false;
+
+            final long slice = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : now + Math.max(MIN_SLICE_NANOS, (deadline - now) / (this.pending.size() + 1));
+
+            if (profiling) {
+                TickProfiler.INSTANCE.startSection();
+                g.runTasks(slice);
+                TickProfiler.INSTANCE.endSection(TickProfiler.Category.GRID, g);
+            } else {
+                g.runTasks(slice);
+            }
+
+            g.recordTaskTime(System.nanoTime() - now);
+
+            if (g.hasTasks()) {
+                this.pending.add(g);
+            }
+        }
+    }
+
+    public void clear() {
+        this.pending.clear();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+
+/**
+ * Work a grid cache hands to its {@link Grid} instead of doing it inside {@code onUpdateTick}, so it can be spread over
+ * several ticks by the {@link GridUpdateScheduler}.
+ */
+@FunctionalInterface
+public interface IGridTask {
+    /**
+     * Does as much of the work as fits before the deadline. At least one unit of work has to be done on every call,
+     * even if the deadline already passed, so every task keeps making progress.
+     *
+     * @param deadline {@link System#nanoTime()} after which the task should return
+     * @return true once the task is done, false to be called again later
+     */
+    boolean run(long deadline);
+}
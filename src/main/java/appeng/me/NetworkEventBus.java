@@ -25,9 +25,11 @@ import appeng.api.networking.events.MENetworkEvent;
 import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.core.AELog;
 
+import java.lang.invoke.*;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 
 
 public class NetworkEventBus {
@@ -58,7 +60,7 @@ public class NetworkEventBus {
                                 thisEvent = new MENetworkEventInfo();
                             }
 
-                            thisEvent.Add(types[0], c, m);
+                            thisEvent.Add(m);
 
                             classEvents.put(listAs, thisEvent);
                         } else {
@@ -79,32 +81,33 @@ public class NetworkEventBus {
         final Map<Class, MENetworkEventInfo> subscribers = EVENTS.get(e.getClass());
         int x = 0;
 
-        try {
-            if (subscribers != null) {
-                for (final Entry<Class, MENetworkEventInfo> subscriber : subscribers.entrySet()) {
-                    final MENetworkEventInfo target = subscriber.getValue();
-                    final GridCacheWrapper cache = g.getCaches().get(subscriber.getKey());
-                    if (cache != null) {
-                        x++;
-                        target.invoke(cache.getCache(), e);
+        if (subscribers != null) {
+            dispatch:
+            for (final Entry<Class, MENetworkEventInfo> subscriber : subscribers.entrySet()) {
+                final MENetworkEventInfo target = subscriber.getValue();
+                final GridCacheWrapper cache = g.getCaches().get(subscriber.getKey());
+                if (cache != null) {
+                    x++;
+                    if (target.invoke(cache.getCache(), e)) {
+                        break;
                     }
+                }
 
-                    // events may create or remove grid nodes in rare cases
-                    final IMachineSet machines = g.getMachines(subscriber.getKey());
-                    final List<IGridNode> work = new ArrayList<>(machines.size());
-                    machines.forEach(work::add);
+                // events may create or remove grid nodes in rare cases
+                final IMachineSet machines = g.getMachines(subscriber.getKey());
+                final List<IGridNode> work = new ArrayList<>(machines.size());
+                machines.forEach(work::add);
 
-                    for (final IGridNode obj : work) {
-                        // stil part of grid?
-                        if (machines.contains(obj)) {
-                            x++;
-                            target.invoke(obj.getMachine(), e);
+                for (final IGridNode obj : work) {
+                    // stil part of grid?
+                    if (machines.contains(obj)) {
+                        x++;
+                        if (target.invoke(obj.getMachine(), e)) {
+                            break dispatch;
                         }
                     }
                 }
             }
-        } catch (final NetworkEventDone done) {
-            // Early out.
         }
 
         e.setVisitedObjects(x);
@@ -115,42 +118,60 @@ public class NetworkEventBus {
         final Map<Class, MENetworkEventInfo> subscribers = EVENTS.get(e.getClass());
         int x = 0;
 
-        try {
-            if (subscribers != null) {
-                final MENetworkEventInfo target = subscribers.get(node.getMachineClass());
-                if (target != null) {
-                    x++;
-                    target.invoke(node.getMachine(), e);
-                }
+        if (subscribers != null) {
+            final MENetworkEventInfo target = subscribers.get(node.getMachineClass());
+            if (target != null) {
+                x++;
+                target.invoke(node.getMachine(), e);
             }
-        } catch (final NetworkEventDone done) {
-            // Early out.
         }
 
         e.setVisitedObjects(x);
         return e;
     }
 
-    private static class NetworkEventDone extends Throwable {
+    /**
+     * Binds a subscriber method to a {@link BiConsumer}, so posting an event is a plain interface call instead of
+     * {@link Method#invoke}. Methods the lambda factory can not bind, e.g. on classes that are not accessible from
+     * here, are called through a method handle instead.
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, MENetworkEvent> createInvoker(final Method m) throws Throwable {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
 
-        private static final long serialVersionUID = -3079021487019171205L;
+        try {
+            final MethodHandle handle = lookup.unreflect(m);
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class), MethodType.methodType(void.class, Object.class, Object.class), handle, MethodType.methodType(void.class, m.getDeclaringClass(), m.getParameterTypes()[0]));
+            return (BiConsumer<Object, MENetworkEvent>) site.getTarget().invokeExact();
+        } catch (final IllegalAccessException | LambdaConversionException ex) {
+            m.setAccessible(true);
+            final MethodHandle handle = lookup.unreflect(m).asType(MethodType.methodType(void.class, Object.class, MENetworkEvent.class));
+            return (obj, e) -> {
+                try {
+                    handle.invokeExact(obj, e);
+                } catch (final RuntimeException | Error ex2) {
+                    throw ex2;
+                } catch (final Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            };
+        }
     }
 
-    private class EventMethod {
+    private static class EventMethod {
 
-        private final Class objClass;
-        private final Method objMethod;
-        private final Class objEvent;
+        private final BiConsumer<Object, MENetworkEvent> invoker;
 
-        public EventMethod(final Class Event, final Class ObjClass, final Method ObjMethod) {
-            this.objClass = ObjClass;
-            this.objMethod = ObjMethod;
-            this.objEvent = Event;
+        public EventMethod(final Method ObjMethod) throws Throwable {
+            this.invoker = createInvoker(ObjMethod);
         }
 
-        private void invoke(final Object obj, final MENetworkEvent e) throws NetworkEventDone {
+        /**
+         * @return true if the event was canceled and should not be passed on.
+         */
+        private boolean invoke(final Object obj, final MENetworkEvent e) {
             try {
-                this.objMethod.invoke(obj, e);
+                this.invoker.accept(obj, e);
             } catch (final Throwable e1) {
                 AELog.error("[AppEng] Network Event caused exception:");
                 AELog.error("Class: %1s, Object: %2s", obj.getClass().getName(), obj.toString());
@@ -158,24 +179,28 @@ public class NetworkEventBus {
                 throw new IllegalStateException(e1);
             }
 
-            if (e.isCanceled()) {
-                throw new NetworkEventDone();
-            }
+            return e.isCanceled();
         }
     }
 
-    private class MENetworkEventInfo {
+    private static class MENetworkEventInfo {
 
         private final List<EventMethod> methods = new ArrayList<>();
 
-        private void Add(final Class Event, final Class ObjClass, final Method ObjMethod) {
-            this.methods.add(new EventMethod(Event, ObjClass, ObjMethod));
+        private void Add(final Method ObjMethod) throws Throwable {
+            this.methods.add(new EventMethod(ObjMethod));
         }
 
-        private void invoke(final Object obj, final MENetworkEvent e) throws NetworkEventDone {
+        /**
+         * @return true if the event was canceled and should not be passed on.
+         */
+        private boolean invoke(final Object obj, final MENetworkEvent e) {
             for (final EventMethod em : this.methods) {
-                em.invoke(obj, e);
+                if (em.invoke(obj, e)) {
+                    return true;
+                }
             }
+            return false;
         }
     }
 }
@@ -41,9 +41,12 @@ import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
+import appeng.crafting.CraftingCalculationScheduler;
 import appeng.crafting.CraftingJob;
 import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
+import appeng.crafting.CraftingTreeTemplates;
 import appeng.crafting.CraftingWatcher;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.me.helpers.BaseActionSource;
@@ -59,24 +62,14 @@ import net.minecraft.world.World;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 import java.util.stream.StreamSupport;
 
 
 public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper, ICellProvider, IMEInventoryHandler<IAEItemStack> {
 
-    private static final ExecutorService CRAFTING_POOL;
     private static final Comparator<ICraftingPatternDetails> COMPARATOR = (firstDetail, nextDetail) -> nextDetail.getPriority() - firstDetail.getPriority();
 
-    static {
-        final ThreadFactory factory = ar -> new Thread(ar, "AE Crafting Calculator");
-
-        CRAFTING_POOL = Executors.newCachedThreadPool(factory);
-    }
-
     private final Set<CraftingCPUCluster> craftingCPUClusters = new HashSet<>();
     private final Set<ICraftingProvider> craftingProviders = new HashSet<>();
     private final Map<IGridNode, ICraftingWatcher> craftingWatchers = new HashMap<>();
@@ -87,6 +80,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
     private final Map<String, CraftingLinkNexus> craftingLinks = new HashMap<>();
     private final Multimap<IAEStack, CraftingWatcher> interests = HashMultimap.create();
     private final GenericInterestManager<CraftingWatcher> interestManager = new GenericInterestManager<>(this.interests);
+    private CraftingTreeTemplates treeTemplates = new CraftingTreeTemplates();
     private IStorageGrid storageGrid;
     private IEnergyGrid energyGrid;
     int i;
@@ -207,6 +201,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
         final Set<IAEItemStack> oldEmitableItems = new HashSet<>(this.emitableItems);
 
         // erase list.
+        this.treeTemplates = new CraftingTreeTemplates();
         this.craftingMethods.clear();
         this.craftableItems.clear();
         this.emitableItems.clear();
@@ -444,7 +439,15 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 
         final CraftingJob job = new CraftingJob(world, grid, actionSrc, slotItem, cb);
 
-        return CRAFTING_POOL.submit(job, job);
+        return getCalculationScheduler().submit(grid, job, actionSrc);
+    }
+
+    public CraftingTreeTemplates getTreeTemplates() {
+        return this.treeTemplates;
+    }
+
+    public static CraftingCalculationScheduler getCalculationScheduler() {
+        return SchedulerHolder.SCHEDULER;
     }
 
     @Override
@@ -582,4 +585,8 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
             // no..
         }
     }
+
+    private static class SchedulerHolder {
+        private static final CraftingCalculationScheduler SCHEDULER = new CraftingCalculationScheduler(AEConfig.instance().getCraftingCalculationThreads());
+    }
 }
@@ -42,6 +42,12 @@ import java.util.*;
 public class EnergyGridCache implements IEnergyGrid {
 
     private static final double MAX_BUFFER_STORAGE = 800;
+
+    /**
+     * Stored power and demand are kept up to date by every extraction and injection, but stores may also change on
+     * their own, e.g. creative energy cells. They are summed up again after this many ticks.
+     */
+    private static final int REFRESH_TICKS = 20;
     private static final Comparator<IEnergyGridProvider> COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST = (o1, o2) -> Double.compare(o2.getProviderStoredEnergy(), o1.getProviderStoredEnergy());
 
     private static final Comparator<IEnergyGridProvider> COMPARATOR_LOWEST_PERCENTAGE_FIRST = (o1, o2) -> {
@@ -80,6 +86,7 @@ public class EnergyGridCache implements IEnergyGrid {
     private int availableTicksSinceUpdate = 0;
     private double globalAvailablePower = 0;
     private double globalMaxPower = MAX_BUFFER_STORAGE;
+    private double globalDemand = MAX_BUFFER_STORAGE;
 
     /**
      * idle draw.
@@ -157,6 +164,10 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public void onUpdateTick() {
+        if (this.availableTicksSinceUpdate >= REFRESH_TICKS) {
+            this.refreshPower();
+        }
+
         if (!this.interests.isEmpty()) {
             final double oldPower = this.lastStoredPower;
             this.lastStoredPower = this.getStoredPower();
@@ -211,6 +222,12 @@ public class EnergyGridCache implements IEnergyGrid {
     @Override
     public double extractAEPower(final double amt, final Actionable mode, final PowerMultiplier pm) {
         final double toExtract = pm.multiply(amt);
+
+        // only grids linked through quartz fibers need to be searched
+        if (this.energyGridProviders.isEmpty()) {
+            return pm.divide(this.extractProviderPower(toExtract, mode));
+        }
+
         final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST);
         final Set<IEnergyGridProvider> visited = new HashSet<>();
 
@@ -249,7 +266,7 @@ public class EnergyGridCache implements IEnergyGrid {
     }
 
     /**
-     * refresh current stored power.
+     * refresh current stored power and demand.
      */
     private void refreshPower() {
         this.availableTicksSinceUpdate = 0;
@@ -257,6 +274,28 @@ public class EnergyGridCache implements IEnergyGrid {
         for (final IAEPowerStorage p : this.providers) {
             this.globalAvailablePower += p.getAECurrentPower();
         }
+        for (final IAEPowerStorage p : this.providersToAdd) {
+            if (!this.providers.contains(p)) {
+                this.globalAvailablePower += p.getAECurrentPower();
+            }
+        }
+
+        this.globalDemand = 0;
+        for (final IAEPowerStorage p : this.requesters) {
+            this.globalDemand += getDemand(p);
+        }
+        for (final IAEPowerStorage p : this.requesterToAdd) {
+            if (!this.requesters.contains(p)) {
+                this.globalDemand += getDemand(p);
+            }
+        }
+    }
+
+    private static double getDemand(final IAEPowerStorage storage) {
+        if (storage.getPowerFlow() == AccessRestriction.READ) {
+            return 0;
+        }
+        return Math.max(0.0, storage.getAEMaxPower() - storage.getAECurrentPower());
     }
 
     @Override
@@ -267,11 +306,16 @@ public class EnergyGridCache implements IEnergyGrid {
     @Override
     public double extractProviderPower(final double amt, final Actionable mode) {
         double extractedPower = 0;
+        double extractedWritable = 0;
 
-        this.providers.addAll(providersToAdd);
-        providersToAdd.clear();
-        providers.removeIf(providerToRemove::contains);
-        this.providerToRemove.clear();
+        if (!this.providersToAdd.isEmpty()) {
+            this.providers.addAll(this.providersToAdd);
+            this.providersToAdd.clear();
+        }
+        if (!this.providerToRemove.isEmpty()) {
+            this.providers.removeAll(this.providerToRemove);
+            this.providerToRemove.clear();
+        }
 
         final Iterator<IAEPowerStorage> it = this.providers.iterator();
 
@@ -289,6 +333,9 @@ public class EnergyGridCache implements IEnergyGrid {
                     final double req = amt - extractedPower;
                     final double newPower = node.extractAEPower(req, mode, PowerMultiplier.ONE);
                     extractedPower += newPower;
+                    if (node.getPowerFlow() != AccessRestriction.READ) {
+                        extractedWritable += newPower;
+                    }
 
                     if (newPower < req && mode == Actionable.MODULATE) {
                         it.remove();
@@ -304,6 +351,7 @@ public class EnergyGridCache implements IEnergyGrid {
                 final double newPower = localStorage.extractAEPower(req, mode, PowerMultiplier.ONE);
 
                 extractedPower += newPower;
+                extractedWritable += newPower;
 
                 if (newPower < req) {
                     providers.remove(localStorage);
@@ -316,9 +364,11 @@ public class EnergyGridCache implements IEnergyGrid {
         if (mode == Actionable.MODULATE) {
             if (extractedPower > amt) {
                 this.localStorage.addCurrentAEPower(extractedPower - amt);
+                extractedWritable -= extractedPower - amt;
             }
 
             this.globalAvailablePower -= result;
+            this.globalDemand += extractedWritable;
             this.tickDrainPerTick += result;
         }
 
@@ -328,11 +378,16 @@ public class EnergyGridCache implements IEnergyGrid {
     @Override
     public double injectProviderPower(double amt, final Actionable mode) {
         final double originalAmount = amt;
+        double injectedReadable = 0;
 
-        this.requesters.addAll(requesterToAdd);
-        requesterToAdd.clear();
-        requesters.removeIf(requesterToRemove::contains);
-        this.requesterToRemove.clear();
+        if (!this.requesterToAdd.isEmpty()) {
+            this.requesters.addAll(this.requesterToAdd);
+            this.requesterToAdd.clear();
+        }
+        if (!this.requesterToRemove.isEmpty()) {
+            this.requesters.removeAll(this.requesterToRemove);
+            this.requesterToRemove.clear();
+        }
 
         final Iterator<IAEPowerStorage> it = this.requesters.iterator();
 
@@ -342,7 +397,11 @@ public class EnergyGridCache implements IEnergyGrid {
                 final IAEPowerStorage node = it.next();
 
                 if (node != null) {
+                    final double before = amt;
                     amt = node.injectAEPower(amt, mode);
+                    if (node.getPowerFlow() != AccessRestriction.WRITE) {
+                        injectedReadable += before - amt;
+                    }
 
                     if (amt > 0 && mode == Actionable.MODULATE) {
                         it.remove();
@@ -359,6 +418,8 @@ public class EnergyGridCache implements IEnergyGrid {
 
         if (mode == Actionable.MODULATE) {
             this.tickInjectionPerTick += originalAmount - overflow;
+            this.globalAvailablePower += injectedReadable;
+            this.globalDemand -= originalAmount - overflow;
         }
 
         return overflow;
@@ -366,17 +427,7 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double getProviderEnergyDemand(final double maxRequired) {
-        double required = 0;
-
-        final Iterator<IAEPowerStorage> it = this.requesters.iterator();
-        while (required < maxRequired && it.hasNext()) {
-            final IAEPowerStorage node = it.next();
-            if (node.getPowerFlow() != AccessRestriction.READ) {
-                required += Math.max(0.0, node.getAEMaxPower() - node.getAECurrentPower());
-            }
-        }
-
-        return required;
+        return Math.min(maxRequired, Math.max(0.0, this.globalDemand));
     }
 
     @Override
@@ -396,6 +447,10 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double injectPower(final double amt, final Actionable mode) {
+        if (this.energyGridProviders.isEmpty()) {
+            return this.injectProviderPower(amt, mode);
+        }
+
         final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
         final Set<IEnergyGridProvider> visited = new HashSet<>();
         toVisit.add(this);
@@ -420,7 +475,6 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double getStoredPower() {
-        this.refreshPower();
         return Math.max(0.0, this.globalAvailablePower);
     }
 
@@ -431,6 +485,10 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double getEnergyDemand(final double maxRequired) {
+        if (this.energyGridProviders.isEmpty()) {
+            return this.getProviderEnergyDemand(maxRequired);
+        }
+
         final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
         final Set<IEnergyGridProvider> visited = new HashSet<>();
         toVisit.add(this);
@@ -481,6 +539,7 @@ public class EnergyGridCache implements IEnergyGrid {
                     this.globalMaxPower -= ps.getAEMaxPower();
                     this.globalAvailablePower -= ps.getAECurrentPower();
                 }
+                this.globalDemand -= getDemand(ps);
                 if (!ongoingExtractOperation) {
                     removeProvider(ps);
                 } else {
@@ -547,6 +606,7 @@ public class EnergyGridCache implements IEnergyGrid {
                 if (ps.getPowerFlow() != AccessRestriction.WRITE) {
                     this.globalMaxPower += ps.getAEMaxPower();
                 }
+                this.globalDemand += getDemand(ps);
 
                 if (current > 0 && ps.getPowerFlow() != AccessRestriction.WRITE) {
                     this.globalAvailablePower += current;
@@ -582,12 +642,17 @@ public class EnergyGridCache implements IEnergyGrid {
     public void onSplit(final IGridStorage storageB) {
         final double newBuffer = this.localStorage.getAECurrentPower() / 2;
         this.localStorage.removeCurrentAEPower(newBuffer);
+        this.globalAvailablePower -= newBuffer;
+        this.globalDemand += newBuffer;
         storageB.dataObject().setDouble("buffer", newBuffer);
     }
 
     @Override
     public void onJoin(final IGridStorage storageB) {
-        this.localStorage.addCurrentAEPower(storageB.dataObject().getDouble("buffer"));
+        final double buffer = storageB.dataObject().getDouble("buffer");
+        this.localStorage.addCurrentAEPower(buffer);
+        this.globalAvailablePower += buffer;
+        this.globalDemand -= buffer;
     }
 
     @Override
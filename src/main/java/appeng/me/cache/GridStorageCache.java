@@ -58,6 +58,8 @@ public class GridStorageCache implements IStorageGrid {
     private final Map<IStorageChannel<? extends IAEStack>, NetworkInventoryHandler<?>> storageNetworks;
     private final Map<IStorageChannel<? extends IAEStack>, NetworkMonitor<?>> storageMonitors;
     private int localDepth;
+    private int batchDepth;
+    private final Map<IStorageChannel<?>, Map<IActionSource, IItemList<?>>> batchedChanges = new IdentityHashMap<>();
 
     public GridStorageCache(final IGrid g) {
         this.myGrid = g;
@@ -119,6 +121,76 @@ public class GridStorageCache implements IStorageGrid {
         }
     }
 
+    /**
+     * Same as {@link #removeNode} for each node, but rebuilds the cell array and posts the storage changes only once.
+     */
+    @Override
+    public void removeNodes(final Collection<IGridNode> nodes) {
+        final CellChangeTracker tracker = new CellChangeTracker();
+        boolean cellsChanged = false;
+
+        for (final IGridNode node : nodes) {
+            final IGridHost machine = node.getMachine();
+
+            if (machine instanceof ICellContainer) {
+                final ICellContainer cc = (ICellContainer) machine;
+                this.removeCellProvider(cc, tracker);
+                this.inactiveCellProviders.remove(cc);
+                cellsChanged = true;
+            }
+
+            if (machine instanceof IStackWatcherHost) {
+                final IStackWatcher myWatcher = this.watchers.remove(node);
+
+                if (myWatcher != null) {
+                    myWatcher.reset();
+                }
+            }
+        }
+
+        if (cellsChanged) {
+            this.cellUpdate(null);
+        }
+
+        tracker.applyChanges();
+    }
+
+    /**
+     * Same as {@link #addNode} for each node, but rebuilds the cell array and posts the storage changes only once.
+     */
+    @Override
+    public void addNodes(final Collection<IGridNode> nodes) {
+        final List<IGridNode> cellNodes = new ArrayList<>();
+
+        for (final IGridNode node : nodes) {
+            final IGridHost machine = node.getMachine();
+
+            if (machine instanceof ICellContainer) {
+                this.inactiveCellProviders.add((ICellContainer) machine);
+                cellNodes.add(node);
+            }
+
+            if (machine instanceof IStackWatcherHost) {
+                final IStackWatcherHost swh = (IStackWatcherHost) machine;
+                final ItemWatcher iw = new ItemWatcher(this, swh);
+                this.watchers.put(node, iw);
+                swh.updateWatcher(iw);
+            }
+        }
+
+        if (!cellNodes.isEmpty()) {
+            this.cellUpdate(null);
+
+            final CellChangeTracker tracker = new CellChangeTracker();
+            for (final IGridNode node : cellNodes) {
+                if (node.isActive()) {
+                    this.addCellProvider((ICellContainer) node.getMachine(), tracker);
+                }
+            }
+            tracker.applyChanges();
+        }
+    }
+
     @Override
     public void onSplit(final IGridStorage storageB) {
 
@@ -232,6 +304,59 @@ public class GridStorageCache implements IStorageGrid {
 
     @Override
     public void postAlterationOfStoredItems(final IStorageChannel<?> chan, final Iterable<? extends IAEStack<?>> input, final IActionSource src) {
+        if (this.batchDepth > 0) {
+            final IItemList pending = this.batchedChanges.computeIfAbsent(chan, $ -> new LinkedHashMap<>()).computeIfAbsent(src, $ -> chan.createList());
+            for (final IAEStack<?> change : input) {
+                pending.add(change);
+            }
+            return;
+        }
+
+        this.postAlterationNow(chan, input, src);
+    }
+
+    /**
+     * Collects every storage change posted until the matching {@link #endBatch()} and posts them afterwards as one
+     * merged change per channel and source, instead of one per insertion or extraction. Batches nest.
+     */
+    public void beginBatch() {
+        this.batchDepth++;
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}, posting the collected changes once the outermost batch ends.
+     */
+    public void endBatch() {
+        if (this.batchDepth == 0 || --this.batchDepth > 0) {
+            return;
+        }
+
+        while (!this.batchedChanges.isEmpty()) {
+            final Iterator<Map.Entry<IStorageChannel<?>, Map<IActionSource, IItemList<?>>>> it = this.batchedChanges.entrySet().iterator();
+            final Map.Entry<IStorageChannel<?>, Map<IActionSource, IItemList<?>>> channelChanges = it.next();
+            it.remove();
+
+            for (final Map.Entry<IActionSource, IItemList<?>> sourceChanges : channelChanges.getValue().entrySet()) {
+                final List<IAEStack<?>> changes = new ArrayList<>();
+                for (final IAEStack<?> change : sourceChanges.getValue()) {
+                    if (change.getStackSize() != 0) {
+                        changes.add(change);
+                    }
+                }
+
+                if (!changes.isEmpty()) {
+                    this.postAlterationNow(channelChanges.getKey(), changes, sourceChanges.getKey());
+                }
+            }
+        }
+    }
+
+    private void postAlterationNow(final IStorageChannel<?> chan, final Iterable<? extends IAEStack<?>> input, final IActionSource src) {
+        final NetworkInventoryHandler<?> storageNetwork = this.storageNetworks.get(chan);
+        if (storageNetwork != null) {
+            storageNetwork.postAlterationOfStoredItems((Iterable) input, src);
+        }
+
         this.storageMonitors.get(chan).postChange(true, (Iterable) input, src);
     }
 
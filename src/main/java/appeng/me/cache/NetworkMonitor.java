@@ -32,6 +32,7 @@ import appeng.api.storage.channels.IFluidStorageChannel;
 import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.me.Grid;
 import appeng.me.storage.ItemWatcher;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -63,6 +64,7 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
     private long gridItemCount;
     private long gridFluidCount;
     public boolean forceUpdate;
+    private boolean forceUpdateScheduled = false;
 
     public NetworkMonitor(final GridStorageCache cache, final IStorageChannel<T> chan) {
         this.myGridCache = cache;
@@ -304,8 +306,17 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
     }
 
     void onTick() {
-        if (forceUpdate) {
-            forceUpdate();
+        // rebuilding the list walks every cell, so it waits for the grid's task budget. Changes are still posted
+        // incrementally in the meantime.
+        if (this.forceUpdate && !this.forceUpdateScheduled) {
+            this.forceUpdateScheduled = true;
+            ((Grid) this.myGridCache.getGrid()).scheduleTask(deadline -> {
+                this.forceUpdateScheduled = false;
+                if (this.forceUpdate) {
+                    this.forceUpdate();
+                }
+                return true;
+            });
         }
         if (this.sendEvent) {
             this.sendEvent = false;
@@ -33,6 +33,7 @@ import appeng.core.AEConfig;
 import appeng.core.AppEng;
 import appeng.core.features.AEFeature;
 import appeng.core.stats.IAdvancementTrigger;
+import appeng.me.Grid;
 import appeng.me.GridConnection;
 import appeng.me.GridNode;
 import appeng.me.pathfinding.*;
@@ -60,6 +61,15 @@ public class PathGridCache implements IPathingGrid {
     private int ticksUntilReady = 20;
     private int lastChannels = 0;
     private HashSet<IPathItem> semiOpen = new HashSet<>();
+    private int missingChannels = 0;
+    // the segments are stepped by a grid task, which picks up a round where the last call stopped.
+    private int stepCursor = 0;
+    private boolean steppingScheduled = false;
+
+    // topology changes which are routed without rebooting the whole network.
+    private final Set<IGridNode> addedNodes = new HashSet<>();
+    private final List<GridConnection> addedConnections = new ArrayList<>();
+    private final Set<IGridNode> detachedNodes = new HashSet<>();
 
     public PathGridCache(final IGrid g) {
         this.myGrid = g;
@@ -71,6 +81,10 @@ public class PathGridCache implements IPathingGrid {
             this.recalcController();
         }
 
+        if (!this.updateNetwork && !this.attachAddedNodes()) {
+            this.repath();
+        }
+
         if (this.updateNetwork) {
             if (!this.booting) {
                 this.myGrid.postEvent(new MENetworkBootingStatusChange());
@@ -79,6 +93,7 @@ public class PathGridCache implements IPathingGrid {
             this.booting = true;
             this.updateNetwork = false;
             this.setChannelsInUse(0);
+            this.setMissingChannels(0);
 
             if (this.controllerState == ControllerState.NO_CONTROLLER) {
                 final int requiredChannels = this.calculateRequiredChannels();
@@ -119,19 +134,16 @@ public class PathGridCache implements IPathingGrid {
                         }
                     }
                 }
-            }
-        }
 
-        if (!this.active.isEmpty() || this.ticksUntilReady > 0) {
-            final Iterator<PathSegment> i = this.active.iterator();
-            while (i.hasNext()) {
-                final PathSegment pat = i.next();
-                if (pat.step()) {
-                    pat.setDead(true);
-                    i.remove();
+                this.stepCursor = 0;
+                if (!this.steppingScheduled && !this.active.isEmpty()) {
+                    this.steppingScheduled = true;
+                    ((Grid) this.myGrid).scheduleTask(this::stepSegments);
                 }
             }
+        }
 
+        if (!this.active.isEmpty() || this.ticksUntilReady > 0) {
             this.ticksUntilReady--;
 
             if (this.active.isEmpty() && this.ticksUntilReady <= 0) {
@@ -153,8 +165,61 @@ public class PathGridCache implements IPathingGrid {
         }
     }
 
+    /**
+     * Steps the path segments in rounds, one layer per segment each, until all of them are done or the deadline
+     * passes. Large networks thereby assign their channels over several ticks without holding up the others.
+     */
+    private boolean stepSegments(final long deadline) {
+        do {
+            if (this.stepCursor >= this.active.size()) {
+                this.stepCursor = 0;
+
+                if (this.active.isEmpty()) {
+                    break;
+                }
+            }
+
+            final PathSegment pat = this.active.get(this.stepCursor);
+            if (pat.step()) {
+                pat.setDead(true);
+                this.active.remove(this.stepCursor);
+            } else {
+                this.stepCursor++;
+            }
+        } while (System.nanoTime() < deadline);
+
+        if (this.active.isEmpty()) {
+            this.steppingScheduled = false;
+            return true;
+        }
+
+        return false;
+    }
+
     @Override
     public void removeNode(final IGridNode gridNode, final IGridHost machine) {
+        this.forgetNode(gridNode, machine);
+
+        // nodes split off by onConnectionRemoved already released their channels.
+        if (!this.detachedNodes.remove(gridNode)) {
+            this.repath();
+        }
+    }
+
+    @Override
+    public void removeNodes(final Collection<IGridNode> gridNodes) {
+        boolean needsRepath = false;
+        for (final IGridNode gridNode : gridNodes) {
+            this.forgetNode(gridNode, gridNode.getMachine());
+            needsRepath |= !this.detachedNodes.remove(gridNode);
+        }
+
+        if (needsRepath) {
+            this.repath();
+        }
+    }
+
+    private void forgetNode(final IGridNode gridNode, final IGridHost machine) {
         if (machine instanceof TileController) {
             this.controllers.remove(machine);
             this.recalculateControllerNextTick = true;
@@ -169,12 +234,33 @@ public class PathGridCache implements IPathingGrid {
         if (flags.contains(GridFlags.CANNOT_CARRY_COMPRESSED)) {
             this.blockDense.remove(gridNode);
         }
-
-        this.repath();
     }
 
     @Override
     public void addNode(final IGridNode gridNode, final IGridHost machine) {
+        this.rememberNode(gridNode, machine);
+
+        if (this.canRouteIncrementally()) {
+            this.addedNodes.add(gridNode);
+        } else {
+            this.repath();
+        }
+    }
+
+    @Override
+    public void addNodes(final Collection<IGridNode> gridNodes) {
+        for (final IGridNode gridNode : gridNodes) {
+            this.rememberNode(gridNode, gridNode.getMachine());
+        }
+
+        if (this.canRouteIncrementally()) {
+            this.addedNodes.addAll(gridNodes);
+        } else {
+            this.repath();
+        }
+    }
+
+    private void rememberNode(final IGridNode gridNode, final IGridHost machine) {
         if (machine instanceof TileController) {
             this.controllers.add((TileController) machine);
             this.recalculateControllerNextTick = true;
@@ -189,8 +275,26 @@ public class PathGridCache implements IPathingGrid {
         if (flags.contains(GridFlags.CANNOT_CARRY_COMPRESSED)) {
             this.blockDense.add(gridNode);
         }
+    }
 
-        this.repath();
+    /**
+     * Called before a new connection is added to its nodes, the nodes it attached are routed on the next tick.
+     */
+    public void onConnectionAdded(final GridConnection connection) {
+        if (this.canRouteIncrementally()) {
+            this.addedConnections.add(connection);
+        } else {
+            this.repath();
+        }
+    }
+
+    /**
+     * Called before a connection is removed from its nodes, while the routes over it are still intact.
+     */
+    public void onConnectionRemoved(final GridConnection connection) {
+        if (!this.canRouteIncrementally() || !this.addedNodes.isEmpty() || !this.addedConnections.isEmpty() || !this.detachSubtree(connection)) {
+            this.repath();
+        }
     }
 
     @Override
@@ -208,6 +312,241 @@ public class PathGridCache implements IPathingGrid {
 
     }
 
+    /**
+     * Single nodes and whole subtrees can be routed on their own as long as the network is online and done booting,
+     * anything else needs the complete path finding.
+     */
+    private boolean canRouteIncrementally() {
+        return !this.updateNetwork && !this.recalculateControllerNextTick && !this.booting && this.active.isEmpty()
+                && this.controllerState == ControllerState.CONTROLLER_ONLINE;
+    }
+
+    /**
+     * Routes the nodes added since the last tick, if each group of them hangs off the routed network by a single new
+     * connection and gets all the channels it needs.
+     *
+     * @return false if the network has to be pathed from scratch instead.
+     */
+    private boolean attachAddedNodes() {
+        if (this.addedNodes.isEmpty() && this.addedConnections.isEmpty() && this.detachedNodes.isEmpty()) {
+            return true;
+        }
+
+        try {
+            if (!this.canRouteIncrementally()) {
+                return false;
+            }
+
+            // everything split off should have left this grid by now.
+            for (final IGridNode node : this.detachedNodes) {
+                if (node.getGrid() == this.myGrid) {
+                    return false;
+                }
+            }
+
+            final List<GridConnection> bridges = new ArrayList<>();
+            final List<Integer> requiredChannels = new ArrayList<>();
+            final Set<IGridNode> attached = new HashSet<>();
+
+            for (final GridConnection gc : this.addedConnections) {
+                final IGridNode a = gc.a();
+                final IGridNode b = gc.b();
+
+                if (a.getGrid() != this.myGrid || b.getGrid() != this.myGrid || !a.getConnections().contains(gc)) {
+                    return false;
+                }
+
+                final boolean newA = this.addedNodes.contains(a);
+                final boolean newB = this.addedNodes.contains(b);
+
+                if (newA && newB) {
+                    continue;
+                }
+
+                // both sides were already routed, so this closed a loop.
+                if (!newA && !newB) {
+                    return false;
+                }
+
+                final GridNode parent = (GridNode) (newA ? b : a);
+                final IGridNode child = newA ? a : b;
+
+                // a preferred connection took over the route of its parent.
+                if (parent.getControllerRoute() == gc) {
+                    return false;
+                }
+
+                final int required = this.collectSubtree(gc, child, attached);
+                if (required < 0) {
+                    return false;
+                }
+
+                bridges.add(gc);
+                requiredChannels.add(required);
+            }
+
+            if (attached.size() != this.addedNodes.size()) {
+                return false;
+            }
+
+            for (int x = 0; x < bridges.size(); x++) {
+                final GridConnection gc = bridges.get(x);
+                final IPathItem parent = (IPathItem) (this.addedNodes.contains(gc.a()) ? gc.b() : gc.a());
+                final int channelsBefore = this.getChannelsInUse();
+
+                final Set<IPathItem> closed = new HashSet<>();
+                closed.add(parent);
+                closed.add(gc);
+                gc.setControllerRoute(parent, true);
+
+                final List<IPathItem> open = new ArrayList<>();
+                open.add(gc);
+
+                final PathSegment segment = new PathSegment(this, open, new HashSet<>(), closed);
+                while (!segment.step()) {
+                    // subtrees are small, route all of it right away.
+                }
+
+                // anything short of every channel might have been decided differently by a full path finding.
+                if (this.getChannelsInUse() - channelsBefore != requiredChannels.get(x)) {
+                    return false;
+                }
+
+                for (final IPathItem pi : closed) {
+                    pi.finalizeChannels();
+                }
+
+                for (IPathItem pi = parent.getControllerRoute(); pi != null; pi = pi.getControllerRoute()) {
+                    pi.finalizeChannels();
+                }
+            }
+
+            this.setChannelPowerUsage(this.getChannelsByBlocks() / 128.0);
+            this.achievementPost();
+            return true;
+        } finally {
+            this.addedNodes.clear();
+            this.addedConnections.clear();
+            this.detachedNodes.clear();
+        }
+    }
+
+    /**
+     * Collects the added nodes reachable through the given connection into attached.
+     *
+     * @return the number of channels they require, or -1 if they can not be routed on their own.
+     */
+    private int collectSubtree(final GridConnection bridge, final IGridNode child, final Set<IGridNode> attached) {
+        if (!attached.add(child)) {
+            return -1;
+        }
+
+        final Deque<IGridNode> open = new ArrayDeque<>();
+        open.add(child);
+
+        int required = 0;
+        while (!open.isEmpty()) {
+            final IGridNode node = open.poll();
+            final EnumSet<GridFlags> flags = node.getGridBlock().getFlags();
+
+            if (flags.contains(GridFlags.MULTIBLOCK)) {
+                return -1;
+            }
+
+            if (flags.contains(GridFlags.REQUIRE_CHANNEL)) {
+                required++;
+            }
+
+            for (final IGridConnection gc : node.getConnections()) {
+                if (gc == bridge) {
+                    continue;
+                }
+
+                final IGridNode other = gc.getOtherSide(node);
+                if (!this.addedNodes.contains(other)) {
+                    return -1;
+                }
+
+                if (attached.add(other)) {
+                    open.add(other);
+                }
+            }
+        }
+
+        return required;
+    }
+
+    /**
+     * Releases the channels of the subtree routed over the given connection, if the connection is the only thing
+     * holding it to the network. The subtree will be split off into its own grid right after.
+     *
+     * @return false if the network has to be pathed from scratch instead.
+     */
+    private boolean detachSubtree(final GridConnection connection) {
+        final GridNode downstream = (GridNode) connection.b();
+
+        if (downstream.getControllerRoute() != connection) {
+            return false;
+        }
+
+        final List<IGridNode> subtree = new ArrayList<>();
+        final Deque<GridNode> open = new ArrayDeque<>();
+        open.add(downstream);
+
+        // each node carries as many channels as the connection it is routed over.
+        int routedChannels = connection.getUsedChannels();
+        while (!open.isEmpty()) {
+            final GridNode node = open.poll();
+
+            if (node.getFlags().contains(GridFlags.MULTIBLOCK)) {
+                return false;
+            }
+
+            subtree.add(node);
+
+            for (final IGridConnection gcc : node.getConnections()) {
+                if (gcc == node.getControllerRoute()) {
+                    continue;
+                }
+
+                final GridConnection gc = (GridConnection) gcc;
+                final GridNode child = (GridNode) gc.getOtherSide(node);
+
+                // anything but a child routed over this node would keep the subtree attached.
+                if (gc.a() != node || child.getControllerRoute() != gc) {
+                    return false;
+                }
+
+                routedChannels += gc.getUsedChannels();
+                open.add(child);
+            }
+        }
+
+        final int channels = connection.getUsedChannels();
+
+        // freed channels belong to whoever is missing one, which only a full path finding can decide.
+        if (channels > 0 && this.getMissingChannels() > 0) {
+            return false;
+        }
+
+        // the route continues past the connection unless the upstream node can not carry channels.
+        int channelsByBlocks = routedChannels * 2;
+        for (IPathItem pi = connection.getControllerRoute(); pi != null; pi = pi.getControllerRoute()) {
+            pi.incrementChannelCount(-channels);
+            channelsByBlocks += channels;
+        }
+
+        for (IPathItem pi = connection.getControllerRoute(); pi != null; pi = pi.getControllerRoute()) {
+            pi.finalizeChannels();
+        }
+
+        this.setChannelsInUse(this.getChannelsInUse() - channels);
+        this.setChannelsByBlocks(this.getChannelsByBlocks() - channelsByBlocks);
+        this.setChannelPowerUsage(this.getChannelsByBlocks() / 128.0);
+        this.detachedNodes.addAll(subtree);
+        return true;
+    }
+
     private void recalcController() {
         this.recalculateControllerNextTick = false;
         final ControllerState old = this.controllerState;
@@ -325,6 +664,9 @@ public class PathGridCache implements IPathingGrid {
     public void repath() {
         // clean up...
         this.active.clear();
+        this.addedNodes.clear();
+        this.addedConnections.clear();
+        this.detachedNodes.clear();
 
         this.setChannelsByBlocks(0);
         this.updateNetwork = true;
@@ -353,4 +695,12 @@ public class PathGridCache implements IPathingGrid {
     public void setChannelsInUse(final int channelsInUse) {
         this.channelsInUse = channelsInUse;
     }
+
+    public int getMissingChannels() {
+        return this.missingChannels;
+    }
+
+    public void setMissingChannels(final int missingChannels) {
+        this.missingChannels = missingChannels;
+    }
 }
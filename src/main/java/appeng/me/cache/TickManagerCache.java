@@ -27,14 +27,15 @@ import appeng.api.networking.ticking.IGridTickable;
 import appeng.api.networking.ticking.ITickManager;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.networking.ticking.TickingRequest;
+import appeng.hooks.TickProfiler;
 import appeng.me.cache.helpers.TickTracker;
+import appeng.me.cache.helpers.TimingWheel;
 import com.google.common.base.Preconditions;
 import net.minecraft.crash.CrashReport;
 import net.minecraft.crash.CrashReportCategory;
 import net.minecraft.util.ReportedException;
 
 import java.util.HashMap;
-import java.util.PriorityQueue;
 
 
 public class TickManagerCache implements ITickManager {
@@ -44,9 +45,11 @@ public class TickManagerCache implements ITickManager {
     private final HashMap<IGridNode, TickTracker> sleeping = new HashMap<>();
     private final HashMap<IGridNode, TickTracker> awake = new HashMap<>();
     private final HashMap<IGridNode, TickTracker> laterTicker = new HashMap<>();
-    private final PriorityQueue<TickTracker> upcomingTicks = new PriorityQueue<>();
+    private final TimingWheel<TickTracker> upcomingTicks = new TimingWheel<>(0);
 
     private long currentTick = 0;
+    private long ticksExecuted = 0;
+    private long tickNanos = 0;
 
     public TickManagerCache(final IGrid g) {
         this.myGrid = g;
@@ -56,6 +59,20 @@ public class TickManagerCache implements ITickManager {
         return this.currentTick;
     }
 
+    /**
+     * @return how many device ticks this grid has run so far.
+     */
+    public long getTicksExecuted() {
+        return this.ticksExecuted;
+    }
+
+    /**
+     * @return the total time spent ticking this grid's devices, in nanoseconds.
+     */
+    public long getTickNanos() {
+        return this.tickNanos;
+    }
+
     public long getAvgNanoTime(final IGridNode node) {
         TickTracker tt = this.awake.get(node);
 
@@ -73,22 +90,24 @@ public class TickManagerCache implements ITickManager {
     @Override
     public void onUpdateTick() {
         TickTracker tt = null;
+        final long start = System.nanoTime();
+        final boolean profiling = TickProfiler.isEnabled();
 
         try {
             this.currentTick++;
+            this.upcomingTicks.advance();
 
-            while (!this.upcomingTicks.isEmpty()) {
-                tt = this.upcomingTicks.peek();
-
-                // Stop once it reaches a TickTracker running at a later tick
-                if (tt.getNextTick() > this.currentTick) {
-                    break;
-                }
-
-                this.upcomingTicks.poll();
-
+            while ((tt = this.upcomingTicks.poll()) != null) {
                 final int diff = (int) (this.currentTick - tt.getLastTick());
-                final TickRateModulation mod = tt.getGridTickable().tickingRequest(tt.getNode(), diff);
+                final TickRateModulation mod;
+                if (profiling) {
+                    TickProfiler.INSTANCE.startSection();
+                    mod = tt.getGridTickable().tickingRequest(tt.getNode(), diff);
+                    TickProfiler.INSTANCE.endSection(TickProfiler.Category.MACHINE, tt.getGridTickable().getClass());
+                } else {
+                    mod = tt.getGridTickable().tickingRequest(tt.getNode(), diff);
+                }
+                this.ticksExecuted++;
 
                 switch (mod) {
                     case FASTER:
@@ -112,7 +131,8 @@ public class TickManagerCache implements ITickManager {
                         break;
                 }
 
-                if (this.awake.containsKey(tt.getNode())) {
+                // the device may have been woken or alerted by its own tick, which already scheduled it.
+                if (this.awake.containsKey(tt.getNode()) && !this.upcomingTicks.isScheduled(tt)) {
                     this.addToQueue(tt);
                 }
             }
@@ -121,12 +141,14 @@ public class TickManagerCache implements ITickManager {
             final CrashReportCategory crashreportcategory = crashreport.makeCategory(tt.getGridTickable().getClass().getSimpleName() + " being ticked.");
             tt.addEntityCrashInfo(crashreportcategory);
             throw new ReportedException(crashreport);
+        } finally {
+            this.tickNanos += System.nanoTime() - start;
         }
     }
 
     private void addToQueue(final TickTracker tt) {
         tt.setLastTick(this.currentTick);
-        this.upcomingTicks.add(tt);
+        this.upcomingTicks.schedule(tt, tt.getNextTick());
     }
 
     @Override
@@ -134,7 +156,11 @@ public class TickManagerCache implements ITickManager {
         if (machine instanceof IGridTickable) {
             this.alertable.remove(gridNode);
             this.sleeping.remove(gridNode);
-            this.awake.remove(gridNode);
+
+            final TickTracker tt = this.awake.remove(gridNode);
+            if (tt != null) {
+                this.upcomingTicks.cancel(tt);
+            }
         }
     }
 
@@ -196,8 +222,7 @@ public class TickManagerCache implements ITickManager {
         tt.setCurrentRate(tt.getRequest().minTickRate);
 
         // prevent dupes and tick build up.
-        this.upcomingTicks.remove(tt);
-        this.upcomingTicks.add(tt);
+        this.upcomingTicks.schedule(tt, tt.getNextTick());
 
         return true;
     }
@@ -210,6 +235,7 @@ public class TickManagerCache implements ITickManager {
             final TickTracker gt = this.awake.get(node);
             this.awake.remove(node);
             this.sleeping.put(node, gt);
+            this.upcomingTicks.cancel(gt);
 
             return true;
         }
@@ -225,7 +251,6 @@ public class TickManagerCache implements ITickManager {
             final TickTracker gt = this.sleeping.get(node);
             this.sleeping.remove(node);
             this.awake.put(node, gt);
-            this.upcomingTicks.remove(gt);
             this.addToQueue(gt);
 
             return true;
@@ -27,10 +27,8 @@ import appeng.me.cache.TickManagerCache;
 import appeng.parts.AEBasePart;
 import net.minecraft.crash.CrashReportCategory;
 
-import javax.annotation.Nonnull;
 
-
-public class TickTracker implements Comparable<TickTracker> {
+public class TickTracker extends TimingWheel.Entry {
 
     private final TickingRequest request;
     private final IGridTickable gt;
@@ -53,24 +51,6 @@ public class TickTracker implements Comparable<TickTracker> {
         return (this.LastFiveTicksTime / 5);
     }
 
-    @Override
-    public int compareTo(@Nonnull final TickTracker t) {
-        int next = Long.compare(this.getNextTick(), t.getNextTick());
-
-        if (next != 0) {
-            return next;
-        }
-
-        int last = Long.compare(this.getLastTick(), t.getLastTick());
-
-        if (last != 0) {
-            return last;
-        }
-
-        return Integer.compare(this.getCurrentRate(), t.getCurrentRate());
-
-    }
-
     public void addEntityCrashInfo(final CrashReportCategory crashreportcategory) {
         if (this.getGridTickable() instanceof AEBasePart) {
             final AEBasePart part = (AEBasePart) this.getGridTickable();
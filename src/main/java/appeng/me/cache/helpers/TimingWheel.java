@@ -0,0 +1,187 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+
+/**
+ * A two level timing wheel which schedules entries for an absolute tick.
+ * <p>
+ * Scheduling, rescheduling and canceling are constant time. The first level has one slot per tick for the next
+ * {@value #SLOTS} ticks, the second level one slot per {@value #SLOTS} ticks, which is cascaded into the first level
+ * whenever the wheel reaches it. Entries are linked into their slot directly, so they can only be part of one wheel.
+ */
+public class TimingWheel<T extends TimingWheel.Entry> {
+
+    private static final int SHIFT = 8;
+    private static final int SLOTS = 1 << SHIFT;
+    private static final int MASK = SLOTS - 1;
+
+    private static final int TICKS = 0;
+    private static final int ROUNDS = 1;
+
+    private final Entry[][] heads = new Entry[2][SLOTS];
+    private final Entry[][] tails = new Entry[2][SLOTS];
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(final long currentTick) {
+        this.currentTick = currentTick;
+    }
+
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Schedules the entry for the given tick, replacing any earlier schedule. Ticks which are not after the current
+     * tick are moved to the next one.
+     */
+    public void schedule(final T entry, final long dueTick) {
+        final Entry e = entry;
+        this.cancel(entry);
+
+        e.dueTick = Math.max(dueTick, this.currentTick + 1);
+        this.place(e);
+        this.size++;
+    }
+
+    /**
+     * @return true if the entry was scheduled.
+     */
+    public boolean cancel(final T entry) {
+        final Entry e = entry;
+        if (e.level < 0) {
+            return false;
+        }
+
+        this.unlink(e);
+        this.size--;
+        return true;
+    }
+
+    public boolean isScheduled(final T entry) {
+        return ((Entry) entry).level >= 0;
+    }
+
+    /**
+     * Advances the wheel by one tick.
+     */
+    public void advance() {
+        this.currentTick++;
+
+        if ((this.currentTick & MASK) == 0) {
+            final int slot = (int) ((this.currentTick >> SHIFT) & MASK);
+
+            Entry e = this.heads[ROUNDS][slot];
+            this.heads[ROUNDS][slot] = null;
+            this.tails[ROUNDS][slot] = null;
+
+            while (e != null) {
+                final Entry next = e.next;
+                e.level = -1;
+                e.prev = null;
+                e.next = null;
+                this.place(e);
+                e = next;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the next entry due at the current tick.
+     *
+     * @return null once no more entries are due.
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        final Entry e = this.heads[TICKS][(int) (this.currentTick & MASK)];
+
+        if (e == null) {
+            return null;
+        }
+
+        this.unlink(e);
+        this.size--;
+        return (T) e;
+    }
+
+    private void place(final Entry entry) {
+        if (entry.dueTick - this.currentTick < SLOTS) {
+            this.link(entry, TICKS, (int) (entry.dueTick & MASK));
+        } else {
+            this.link(entry, ROUNDS, (int) ((entry.dueTick >> SHIFT) & MASK));
+        }
+    }
+
+    private void link(final Entry entry, final int level, final int slot) {
+        final Entry tail = this.tails[level][slot];
+
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = tail;
+        entry.next = null;
+
+        if (tail != null) {
+            tail.next = entry;
+        } else {
+            this.heads[level][slot] = entry;
+        }
+
+        this.tails[level][slot] = entry;
+    }
+
+    private void unlink(final Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            this.heads[entry.level][entry.slot] = entry.next;
+        }
+
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        } else {
+            this.tails[entry.level][entry.slot] = entry.prev;
+        }
+
+        entry.level = -1;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * Base class for anything scheduled on a {@link TimingWheel}.
+     */
+    public abstract static class Entry {
+
+        private int level = -1;
+        private int slot;
+        private Entry prev;
+        private Entry next;
+        private long dueTick;
+
+        public long getDueTick() {
+            return this.dueTick;
+        }
+    }
+}
@@ -47,6 +47,7 @@ import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketCraftingToast;
 import appeng.crafting.*;
 import appeng.helpers.PatternHelper;
+import appeng.me.Grid;
 import appeng.me.cache.CraftingGridCache;
 import appeng.me.cluster.IAECluster;
 import appeng.me.helpers.MachineSource;
@@ -55,7 +56,6 @@ import appeng.tile.crafting.TileCraftingMonitorTile;
 import appeng.tile.crafting.TileCraftingTile;
 import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
-import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.InventoryCrafting;
@@ -98,6 +98,10 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private MachineSource machineSrc = null;
     private int accelerator = 0;
     private boolean isComplete = true;
+    /**
+     * The grid the task returning the CPU's items was queued on, tasks of grids retired by a merge never run.
+     */
+    private Grid storingOn = null;
     private int remainingOperations;
     private boolean somethingChanged;
 
@@ -550,7 +554,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         this.finalOutput = null;
         this.updateCPU();
 
-        this.storeItems(); // marks dirty
+        this.markDirty();
+        this.scheduleStoreItems();
     }
 
     public void updateCraftingLogic(final IGrid grid, final IEnergyGrid eg, final CraftingGridCache cc) {
@@ -570,7 +575,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 return;
             }
 
-            this.storeItems();
+            this.scheduleStoreItems();
             return;
         }
 
@@ -627,15 +632,26 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     }
 
                     if (m != null && !m.isBusy()) {
-                        if (ic == null) {
-                            final IAEItemStack[] input = details.getInputs();
-                            double sum = 0;
+                        if (ic == null && !details.isCraftable() && m.canPushMultipleCopies()) {
+                            final int copies = this.getBatchSize(eg, details, e.getValue().value);
 
-                            for (final IAEItemStack anInput : input) {
-                                if (anInput != null) {
-                                    sum += anInput.getStackSize();
+                            if (copies > 1) {
+                                if (this.pushBatch(eg, details, e.getValue(), m, copies) > 0) {
+                                    if (e.getValue().value <= 0) {
+                                        continue;
+                                    }
+
+                                    if (this.remainingOperations == 0) {
+                                        return;
+                                    }
                                 }
+                                continue;
                             }
+                        }
+
+                        if (ic == null) {
+                            final IAEItemStack[] input = details.getInputs();
+                            final double sum = this.getPowerPerCraft(details);
 
                             // power...
                             if (eg.extractAEPower(sum, Actionable.MODULATE, PowerMultiplier.CONFIG) < sum - 0.01) {
@@ -773,18 +789,130 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
     }
 
-    private void storeItems() {
-        Preconditions.checkState(isComplete, "CPU should be complete to prevent re-insertion when dumping items");
+    private double getPowerPerCraft(final ICraftingPatternDetails details) {
+        double sum = 0;
+
+        for (final IAEItemStack anInput : details.getInputs()) {
+            if (anInput != null) {
+                sum += anInput.getStackSize();
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return how many copies of a processing pattern can be pushed at once with the stored inputs and available power.
+     */
+    private int getBatchSize(final IEnergyGrid eg, final ICraftingPatternDetails details, final long wanted) {
+        long copies = Math.min(wanted, this.remainingOperations);
+
+        for (final IAEItemStack input : details.getCondensedInputs()) {
+            if (copies <= 1) {
+                return (int) copies;
+            }
+
+            final IAEItemStack stored = this.inventory.getItemList().findPrecise(input);
+            copies = Math.min(copies, stored == null ? 0 : stored.getStackSize() / input.getStackSize());
+        }
+
+        final double power = this.getPowerPerCraft(details);
+        if (copies > 1 && power > 0) {
+            final double available = eg.extractAEPower(power * copies, Actionable.SIMULATE, PowerMultiplier.CONFIG);
+            copies = Math.min(copies, (long) ((available + 0.01) / power));
+        }
+
+        return (int) copies;
+    }
+
+    /**
+     * Hands several copies of a processing pattern to a medium at once, taking the inputs and power for all of them in
+     * one go. Whatever the medium does not accept goes back into the CPU.
+     *
+     * @return how many copies were pushed.
+     */
+    private int pushBatch(final IEnergyGrid eg, final ICraftingPatternDetails details, final TaskProgress progress, final ICraftingMedium m, final int copies) {
+        final double power = this.getPowerPerCraft(details);
+        if (eg.extractAEPower(power * copies, Actionable.MODULATE, PowerMultiplier.CONFIG) < power * copies - 0.01) {
+            return 0;
+        }
+
+        final IAEItemStack[] condensedInputs = details.getCondensedInputs();
+        for (final IAEItemStack input : condensedInputs) {
+            final IAEItemStack all = input.copy().setStackSize(input.getStackSize() * copies);
+            this.inventory.extractItems(all, Actionable.MODULATE, this.machineSrc);
+            this.postChange(all, this.machineSrc);
+        }
+
+        final IAEItemStack[] input = details.getInputs();
+        final InventoryCrafting ic = new InventoryCrafting(new ContainerNull(), PatternHelper.PROCESSING_INPUT_WIDTH, PatternHelper.PROCESSING_INPUT_HEIGHT);
+        for (int x = 0; x < input.length; x++) {
+            if (input[x] != null) {
+                ic.setInventorySlotContents(x, input[x].createItemStack());
+            }
+        }
+
+        final int pushed = Math.max(0, Math.min(copies, m.pushPatterns(details, ic, copies)));
+
+        if (pushed < copies) {
+            // put stuff back..
+            for (final IAEItemStack in : condensedInputs) {
+                this.inventory.injectItems(in.copy().setStackSize(in.getStackSize() * (copies - pushed)), Actionable.MODULATE, this.machineSrc);
+            }
+            eg.injectPower(PowerMultiplier.CONFIG.multiply(power * (copies - pushed)), Actionable.MODULATE);
+        }
+
+        if (pushed > 0) {
+            this.somethingChanged = true;
+            this.remainingOperations -= pushed;
+
+            for (final IAEItemStack out : details.getCondensedOutputs()) {
+                final IAEItemStack all = out.copy().setStackSize(out.getStackSize() * pushed);
+                this.postChange(all, this.machineSrc);
+                this.waitingFor.add(all.copy());
+                this.postCraftingStatusChange(all.copy());
+            }
+
+            this.markDirty();
+            progress.value -= pushed;
+        }
+
+        return pushed;
+    }
+
+    /**
+     * Returns the CPU's items to the network as a grid task, a large cancelled job would otherwise insert everything in
+     * a single tick.
+     */
+    private void scheduleStoreItems() {
+        final Grid g = (Grid) this.getGrid();
+
+        // also queued again once the CPU moved to another grid, as the task might have been dropped with the old one.
+        if (g != null && this.storingOn != g) {
+            this.storingOn = g;
+            g.scheduleTask(deadline -> this.storeItems(g, deadline));
+        }
+    }
+
+    private boolean storeItems(final Grid scheduledOn, final long deadline) {
+        // superseded by a task on the grid the CPU moved to.
+        if (this.storingOn != scheduledOn) {
+            return true;
+        }
+
         final IGrid g = this.getGrid();
 
-        if (g == null) {
-            return;
+        // a new job was started in the meantime, which takes care of the items.
+        if (g == null || !this.isComplete) {
+            this.storingOn = null;
+            return true;
         }
 
         final IStorageGrid sg = g.getCache(IStorageGrid.class);
         final IMEInventory<IAEItemStack> ii = sg.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
 
         IItemList<IAEItemStack> itemList = this.inventory.getItemList();
+        boolean done = true;
         for (IAEItemStack is : itemList) {
             this.postChange(is, this.machineSrc);
             IAEItemStack remainder = ii.injectItems(is.copy(), Actionable.MODULATE, this.machineSrc);
@@ -795,6 +923,11 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             } else {
                 is.reset();
             }
+
+            if (System.nanoTime() >= deadline) {
+                done = false;
+                break;
+            }
         }
 
         if (itemList.isEmpty()) {
@@ -802,6 +935,12 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
 
         this.markDirty();
+
+        if (done) {
+            this.storingOn = null;
+        }
+
+        return done;
     }
 
     public ICraftingLink submitJob(final IGrid g, final ICraftingJob job, final IActionSource src, final ICraftingRequester requestingMachine) {
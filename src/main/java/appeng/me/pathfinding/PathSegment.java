@@ -65,6 +65,10 @@ public class PathSegment {
                                 worked = this.useChannel(pi);
                             }
 
+                            if (!worked) {
+                                this.pgc.setMissingChannels(this.pgc.getMissingChannels() + 1);
+                            }
+
                             if (worked && flags.contains(GridFlags.MULTIBLOCK)) {
                                 final Iterator<IGridNode> oni = ((IGridMultiblock) ((IGridNode) pi).getGridBlock()).getMultiblockNodes();
                                 while (oni.hasNext()) {
@@ -25,11 +25,27 @@ import appeng.api.storage.ICellInventory;
 import appeng.api.storage.ISaveProvider;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
+import appeng.core.AELog;
 import appeng.util.Platform;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTSizeTracker;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.items.IItemHandler;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 
 /**
  * @author DrummerMC
@@ -42,6 +58,7 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
     private static final String ITEM_COUNT_TAG = "ic";
     private static final String ITEM_SLOT = "#";
     private static final String ITEM_SLOT_COUNT = "@";
+    private static final String ITEM_COMPACT_DATA = "cd";
     protected static final String ITEM_PRE_FORMATTED_COUNT = "PF";
     protected static final String ITEM_PRE_FORMATTED_SLOT = "PF#";
     protected static final String ITEM_PRE_FORMATTED_NAME = "PN";
@@ -58,6 +75,7 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
     protected final IStorageCell<T> cellType;
     protected final int itemsPerByte;
     private boolean isPersisted = true;
+    private Map<T, byte[]> encodedTypes = new HashMap<>();
 
     static {
         for (int x = 0; x < MAX_ITEM_TYPES; x++) {
@@ -101,6 +119,14 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
             return;
         }
 
+        if (AEConfig.instance().isCompactCellStorage()) {
+            this.persistCompact();
+            return;
+        }
+
+        this.tagCompound.removeTag(ITEM_COMPACT_DATA);
+        this.encodedTypes.clear();
+
         long itemCount = 0;
 
         // add new pretty stuff...
@@ -141,6 +167,79 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
         this.isPersisted = true;
     }
 
+    /**
+     * Writes all types into a single {@link CompactCellData} array. The serialized form of each type is kept between
+     * calls, so only types that were added since the last save have to be written as NBT again.
+     */
+    private void persistCompact() {
+        final List<byte[]> types = new ArrayList<>(this.cellItems.size());
+        final long[] counts = new long[this.cellItems.size()];
+        final Map<T, byte[]> encoded = new HashMap<>();
+        long itemCount = 0;
+
+        int x = 0;
+        for (final T v : this.cellItems) {
+            byte[] type = this.encodedTypes.get(v);
+            if (type == null) {
+                type = encodeType(v);
+            }
+
+            encoded.put(v, type);
+            types.add(type);
+            counts[x] = v.getStackSize();
+            itemCount += v.getStackSize();
+            x++;
+        }
+
+        // later saves only need the types which are still stored
+        this.encodedTypes = encoded;
+
+        // a cell converted from the old layout always has its first slot
+        if (this.tagCompound.hasKey(ITEM_SLOT_KEYS[0])) {
+            for (int slot = 0; slot < MAX_ITEM_TYPES; slot++) {
+                this.tagCompound.removeTag(ITEM_SLOT_KEYS[slot]);
+                this.tagCompound.removeTag(ITEM_SLOT_COUNT_KEYS[slot]);
+            }
+        }
+
+        this.storedItemTypes = (short) x;
+        this.storedItemCount = itemCount;
+
+        if (x == 0) {
+            this.tagCompound.removeTag(ITEM_COMPACT_DATA);
+            this.tagCompound.removeTag(ITEM_TYPE_TAG);
+        } else {
+            this.tagCompound.setByteArray(ITEM_COMPACT_DATA, new CompactCellData(types, counts).write());
+            this.tagCompound.setShort(ITEM_TYPE_TAG, this.storedItemTypes);
+        }
+
+        if (itemCount == 0) {
+            this.tagCompound.removeTag(ITEM_COUNT_TAG);
+        } else {
+            this.tagCompound.setLong(ITEM_COUNT_TAG, itemCount);
+        }
+
+        this.isPersisted = true;
+    }
+
+    static byte[] encodeType(final IAEStack<?> stack) {
+        final NBTTagCompound tag = new NBTTagCompound();
+        stack.writeToNBT(tag);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            CompressedStreamTools.write(tag, out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static NBTTagCompound decodeType(final byte[] type) throws IOException {
+        return CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(type)), NBTSizeTracker.INFINITE);
+    }
+
     protected void saveChanges() {
         // recalculate values
         this.storedItemTypes = (short) this.cellItems.size();
@@ -165,13 +264,18 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 
         this.cellItems.resetStatus(); // clears totals and stuff.
 
-        final long types = this.getStoredItemTypes();
         boolean needsUpdate = false;
 
-        for (int slot = 0; slot < types; slot++) {
-            NBTTagCompound compoundTag = this.tagCompound.getCompoundTag(ITEM_SLOT_KEYS[slot]);
-            long stackSize = this.tagCompound.getLong(ITEM_SLOT_COUNT_KEYS[slot]);
-            needsUpdate |= !this.loadCellItem(compoundTag, stackSize);
+        if (this.tagCompound.hasKey(ITEM_COMPACT_DATA, Constants.NBT.TAG_BYTE_ARRAY)) {
+            needsUpdate = this.loadCompactCellItems();
+        } else {
+            final long types = this.getStoredItemTypes();
+
+            for (int slot = 0; slot < types; slot++) {
+                NBTTagCompound compoundTag = this.tagCompound.getCompoundTag(ITEM_SLOT_KEYS[slot]);
+                long stackSize = this.tagCompound.getLong(ITEM_SLOT_COUNT_KEYS[slot]);
+                needsUpdate |= !this.loadCellItem(compoundTag, stackSize);
+            }
         }
 
         if (needsUpdate) {
@@ -179,6 +283,42 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
         }
     }
 
+    /**
+     * @return true if some of the stored types could not be loaded and the cell has to be saved again
+     */
+    private boolean loadCompactCellItems() {
+        final CompactCellData data;
+        try {
+            data = CompactCellData.read(this.tagCompound.getByteArray(ITEM_COMPACT_DATA));
+        } catch (final IOException e) {
+            if (AEConfig.instance().isRemoveCrashingItemsOnLoad()) {
+                AELog.warn(e, "Removing the contents of storage cell " + this.i + " because they could not be read.");
+                return true;
+            }
+            throw new IllegalStateException("Could not read the contents of storage cell " + this.i, e);
+        }
+
+        boolean needsUpdate = false;
+
+        for (int slot = 0; slot < data.size(); slot++) {
+            final NBTTagCompound compoundTag;
+            try {
+                compoundTag = decodeType(data.getType(slot));
+            } catch (final IOException e) {
+                if (AEConfig.instance().isRemoveCrashingItemsOnLoad()) {
+                    AELog.warn(e, "Removing a type from storage cell " + this.i + " because it could not be read.");
+                    needsUpdate = true;
+                    continue;
+                }
+                throw new IllegalStateException("Could not read a type stored in storage cell " + this.i, e);
+            }
+
+            needsUpdate |= !this.loadCellItem(compoundTag, data.getCount(slot));
+        }
+
+        return needsUpdate;
+    }
+
     /**
      * Load a single item.
      *
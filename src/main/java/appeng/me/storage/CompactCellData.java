@@ -0,0 +1,166 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2018, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The compact layout of a storage cell: a format version, the number of stored types, each type as length prefixed
+ * bytes and finally the count of each type. All numbers are written as unsigned varints.
+ *
+ * The type bytes are opaque here. Cells store the uncompressed NBT of the stack in them, the count written after them
+ * takes precedence over the one in the tag.
+ */
+final class CompactCellData {
+
+    static final int VERSION = 1;
+
+    private final List<byte[]> types;
+    private final long[] counts;
+
+    CompactCellData(final List<byte[]> types, final long[] counts) {
+        if (types.size() != counts.length) {
+            throw new IllegalArgumentException("Expected " + types.size() + " counts, got " + counts.length);
+        }
+
+        this.types = types;
+        this.counts = counts;
+    }
+
+    int size() {
+        return this.counts.length;
+    }
+
+    byte[] getType(final int slot) {
+        return this.types.get(slot);
+    }
+
+    long getCount(final int slot) {
+        return this.counts[slot];
+    }
+
+    byte[] write() {
+        int typeBytes = 0;
+        for (final byte[] type : this.types) {
+            typeBytes += type.length;
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(4 + typeBytes + this.counts.length * 4);
+        writeVarLong(out, VERSION);
+        writeVarLong(out, this.counts.length);
+
+        for (final byte[] type : this.types) {
+            writeVarLong(out, type.length);
+            out.write(type, 0, type.length);
+        }
+
+        for (final long count : this.counts) {
+            writeVarLong(out, count);
+        }
+
+        return out.toByteArray();
+    }
+
+    static CompactCellData read(final byte[] data) throws IOException {
+        final Reader in = new Reader(data);
+
+        final long version = in.readVarLong();
+        if (version != VERSION) {
+            throw new IOException("Unknown cell data version " + version);
+        }
+
+        final int size = in.readLength();
+        final List<byte[]> types = new ArrayList<>(size);
+        for (int slot = 0; slot < size; slot++) {
+            types.add(in.readBytes(in.readLength()));
+        }
+
+        final long[] counts = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            counts[slot] = in.readVarLong();
+        }
+
+        if (in.pos != data.length) {
+            throw new IOException((data.length - in.pos) + " trailing bytes after cell data");
+        }
+
+        return new CompactCellData(types, counts);
+    }
+
+    static void writeVarLong(final ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        private Reader(final byte[] data) {
+            this.data = data;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+
+            for (int shift = 0; shift < 63; shift += 7) {
+                if (this.pos >= this.data.length) {
+                    throw new IOException("Truncated cell data");
+                }
+
+                final byte b = this.data[this.pos++];
+                value |= (long) (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IOException("Malformed varint in cell data");
+        }
+
+        private int readLength() throws IOException {
+            final long length = this.readVarLong();
+            if (length > this.data.length - this.pos) {
+                throw new IOException("Length " + length + " exceeds the remaining cell data");
+            }
+            return (int) length;
+        }
+
+        private byte[] readBytes(final int length) {
+            final byte[] bytes = new byte[length];
+            System.arraycopy(this.data, this.pos, bytes, 0, length);
+            this.pos += length;
+            return bytes;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package appeng.me.storage;
 
 
 import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.ICellHandler;
 import appeng.api.storage.ICellInventoryHandler;
@@ -33,7 +34,7 @@ import net.minecraft.item.ItemStack;
 import java.util.Collections;
 
 
-public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> {
+public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> implements ITrackedInventoryHandler {
 
     private int oldStatus = 0;
     private final ItemStack is;
@@ -100,6 +101,11 @@ public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> {
         return extractable;
     }
 
+    @Override
+    public IActionHost getReportingHost() {
+        return this.drive;
+    }
+
     @Override
     public boolean isSticky() {
         if (this.getInternal() instanceof ICellInventoryHandler<?> cellInventoryHandler) {
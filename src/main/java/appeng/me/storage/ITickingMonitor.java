@@ -33,4 +33,11 @@ public interface ITickingMonitor {
     default void setMode(StorageFilter setting) {
 
     }
+
+    /**
+     * Hint that the monitored inventory announced a change, e.g. through a neighbor update.
+     */
+    default void onNeighborChanged() {
+
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import appeng.api.networking.security.IActionHost;
+
+
+/**
+ * A network handler whose contents only grow through itself, and which reports every such change to the grid through
+ * {@link appeng.api.networking.storage.IStorageGrid#postAlterationOfStoredItems} using its reporting host as machine
+ * source.
+ *
+ * The network storage uses this to skip these handlers when extracting items they do not hold.
+ */
+public interface ITrackedInventoryHandler {
+
+    /**
+     * @return the host used as machine source when this handler posts changes to the grid.
+     */
+    IActionHost getReportingHost();
+}
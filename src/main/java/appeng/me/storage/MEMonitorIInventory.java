@@ -33,6 +33,7 @@ import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
 import appeng.util.InventoryAdaptor;
 import appeng.util.inv.ItemSlot;
+import appeng.util.item.AEItemStack;
 import net.minecraft.item.ItemStack;
 
 import java.util.*;
@@ -42,7 +43,8 @@ import java.util.Map.Entry;
 public class MEMonitorIInventory implements IMEMonitor<IAEItemStack>, ITickingMonitor {
 
     private final InventoryAdaptor adaptor;
-    private IItemList<IAEItemStack> cache = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private final IItemList<IAEItemStack> cache = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private ItemStack[] slotStacks = new ItemStack[0];
 
     private final HashMap<IMEMonitorHandlerReceiver<IAEItemStack>, Object> listeners = new HashMap<>();
     private IActionSource mySource;
@@ -81,9 +83,6 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack>, ITickingMo
         o.setStackSize(out.getCount());
 
         if (type == Actionable.MODULATE) {
-            IAEItemStack added = o.copy();
-            this.cache.add(added);
-            this.postDifference(Collections.singletonList(added));
             this.onTick();
         }
 
@@ -109,11 +108,6 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack>, ITickingMo
         o.setStackSize(out.getCount());
 
         if (type == Actionable.MODULATE) {
-            IAEItemStack cachedStack = this.cache.findPrecise(request);
-            if (cachedStack != null) {
-                cachedStack.decStackSize(o.getStackSize());
-                this.postDifference(Collections.singletonList(o.copy().setStackSize(-o.getStackSize())));
-            }
             this.onTick();
         }
 
@@ -125,43 +119,60 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack>, ITickingMo
         return AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
     }
 
+    /**
+     * Compares every slot against the stack it held last time, only slots that changed are turned into AE stacks.
+     */
     @Override
     public TickRateModulation onTick() {
-        boolean changed = false;
-
-        final List<IAEItemStack> changes = new ArrayList<>();
-
-        IItemList<IAEItemStack> currentlyOnStorage = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        final IItemList<IAEItemStack> changes = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+
+        int slots = 0;
+        for (final ItemSlot is : this.adaptor) {
+            final int slot = is.getSlot();
+            if (slot >= this.slotStacks.length) {
+                final int oldSlots = this.slotStacks.length;
+                this.slotStacks = Arrays.copyOf(this.slotStacks, slot + 1);
+                Arrays.fill(this.slotStacks, oldSlots, this.slotStacks.length, ItemStack.EMPTY);
+            }
+            slots = Math.max(slots, slot + 1);
 
-        for (final ItemSlot is : adaptor) {
-            if (this.mode == StorageFilter.EXTRACTABLE_ONLY && !is.isExtractable()) {
-                continue;
+            final ItemStack stack = this.mode == StorageFilter.EXTRACTABLE_ONLY && !is.isExtractable() ? ItemStack.EMPTY : is.getItemStack();
+            if (!ItemStack.areItemStacksEqual(this.slotStacks[slot], stack)) {
+                this.setSlot(slot, stack, changes);
             }
-            currentlyOnStorage.add(is.getAEItemStack());
         }
 
-        for (final IAEItemStack is : cache) {
-            is.setStackSize(-is.getStackSize());
+        if (slots < this.slotStacks.length) {
+            for (int slot = slots; slot < this.slotStacks.length; slot++) {
+                this.setSlot(slot, ItemStack.EMPTY, changes);
+            }
+            this.slotStacks = Arrays.copyOf(this.slotStacks, slots);
         }
 
-        for (final IAEItemStack is : currentlyOnStorage) {
-            cache.add(is);
+        if (!changes.isEmpty()) {
+            this.postDifference(changes);
+            return TickRateModulation.URGENT;
         }
 
-        for (final IAEItemStack is : cache) {
-            if (is.getStackSize() != 0) {
-                changes.add(is);
-            }
-        }
+        return TickRateModulation.SLOWER;
+    }
 
-        cache = currentlyOnStorage;
+    private void setSlot(final int slot, final ItemStack stack, final IItemList<IAEItemStack> changes) {
+        final ItemStack previous = this.slotStacks[slot];
+        if (!previous.isEmpty()) {
+            final IAEItemStack removed = AEItemStack.fromItemStack(previous);
+            removed.setStackSize(-removed.getStackSize());
+            this.cache.add(removed);
+            changes.add(removed);
+        }
 
-        if (!changes.isEmpty()) {
-            this.postDifference(changes);
-            changed = true;
+        if (!stack.isEmpty()) {
+            final IAEItemStack added = AEItemStack.fromItemStack(stack);
+            this.cache.add(added);
+            changes.add(added);
         }
 
-        return changed ? TickRateModulation.URGENT : TickRateModulation.SLOWER;
+        this.slotStacks[slot] = stack.isEmpty() ? ItemStack.EMPTY : stack.copy();
     }
 
     private void postDifference(final Iterable<IAEItemStack> a) {
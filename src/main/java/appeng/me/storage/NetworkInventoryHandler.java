@@ -25,6 +25,7 @@ import appeng.api.config.SecurityPermissions;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.crafting.ICraftingGrid;
+import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.networking.security.ISecurityGrid;
 import appeng.api.storage.IMEInventoryHandler;
@@ -50,6 +51,15 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> stickyPriorityInventory;
     private int myPass = 0;
 
+    /**
+     * Extraction index, built lazily on the first extraction. Handlers are addressed by their position in extraction
+     * order, untracked handlers are always visited, tracked ones only if they are known to hold the requested stack.
+     */
+    private List<IMEInventoryHandler<T>> extractionOrder;
+    private final BitSet untrackedHandlers = new BitSet();
+    private final Map<T, BitSet> trackedHolders = new HashMap<>();
+    private final Map<IActionHost, BitSet> trackedByHost = new IdentityHashMap<>();
+
     public NetworkInventoryHandler(final IStorageChannel<T> chan, final SecurityCache security) {
         this.myChannel = chan;
         this.security = security;
@@ -71,6 +81,28 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         }
 
         list.computeIfAbsent(priority, $ -> new ArrayList<>()).add(h);
+        this.invalidateExtractionIndex();
+    }
+
+    /**
+     * Updates the extraction index with changes reported by a storage host on the grid. Only additions matter here,
+     * handlers which ran dry are dropped from the index when an extraction comes up short.
+     */
+    public void postAlterationOfStoredItems(final Iterable<T> changes, final IActionSource src) {
+        if (this.extractionOrder == null || !src.machine().isPresent()) {
+            return;
+        }
+
+        final BitSet hostHandlers = this.trackedByHost.get(src.machine().get());
+        if (hostHandlers == null) {
+            return;
+        }
+
+        for (final T change : changes) {
+            if (change.getStackSize() > 0) {
+                this.trackedHolders.computeIfAbsent(change.copy(), $ -> new BitSet()).or(hostHandlers);
+            }
+        }
     }
 
     @Override
@@ -214,33 +246,30 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
             return null;
         }
 
-        final Iterator<List<IMEInventoryHandler<T>>> i = this.priorityInventory.descendingMap().values().iterator();// priorityInventory.asMap().descendingMap().entrySet().iterator();
+        final List<IMEInventoryHandler<T>> handlers = this.getExtractionOrder();
+        final BitSet holders = this.trackedHolders.get(request);
 
         final T output = request.copy();
         request = request.copy();
         output.setStackSize(0);
         final long req = request.getStackSize();
 
-        while (i.hasNext()) {
-            final List<IMEInventoryHandler<T>> invList = i.next();
+        for (int i = this.nextCandidate(holders, 0); i >= 0 && output.getStackSize() < req; i = this.nextCandidate(holders, i + 1)) {
+            final IMEInventoryHandler<T> inv = handlers.get(i);
+            final long wanted = req - output.getStackSize();
 
-            final Iterator<IMEInventoryHandler<T>> ii = invList.iterator();
-            while (ii.hasNext() && output.getStackSize() < req) {
-                final IMEInventoryHandler<T> inv = ii.next();
+            request.setStackSize(wanted);
+            final T extracted = inv.extractItems(request, mode, src);
 
-                request.setStackSize(req - output.getStackSize());
-                output.add(inv.extractItems(request, mode, src));
+            if (holders != null && mode == Actionable.MODULATE && !this.untrackedHandlers.get(i) && (extracted == null || extracted.getStackSize() < wanted) && this.isDrained(inv, request, src)) {
+                holders.clear(i);
             }
-        }
 
-        for (List<IMEInventoryHandler<T>> invList : this.stickyPriorityInventory.descendingMap().values()) {
-            final Iterator<IMEInventoryHandler<T>> jj = invList.iterator();
-            while (jj.hasNext() && output.getStackSize() < req) {
-                final IMEInventoryHandler<T> inv = jj.next();
+            output.add(extracted);
+        }
 
-                request.setStackSize(req - output.getStackSize());
-                output.add(inv.extractItems(request, mode, src));
-            }
+        if (holders != null && holders.isEmpty()) {
+            this.trackedHolders.remove(request);
         }
 
         this.surface(this, mode);
@@ -252,6 +281,65 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         return output;
     }
 
+    /**
+     * A short extraction may also come from a handler refusing part of it, so it only leaves the index once it really
+     * has nothing left.
+     */
+    private boolean isDrained(final IMEInventoryHandler<T> inv, final T request, final IActionSource src) {
+        final T probe = request.copy();
+        probe.setStackSize(1);
+
+        final T left = inv.extractItems(probe, Actionable.SIMULATE, src);
+        return left == null || left.getStackSize() <= 0;
+    }
+
+    private int nextCandidate(final BitSet holders, final int from) {
+        final int untracked = this.untrackedHandlers.nextSetBit(from);
+        if (holders == null) {
+            return untracked;
+        }
+
+        final int tracked = holders.nextSetBit(from);
+        if (untracked < 0 || tracked < 0) {
+            return Math.max(untracked, tracked);
+        }
+
+        return Math.min(untracked, tracked);
+    }
+
+    private List<IMEInventoryHandler<T>> getExtractionOrder() {
+        if (this.extractionOrder == null) {
+            final List<IMEInventoryHandler<T>> order = new ArrayList<>();
+            this.priorityInventory.descendingMap().values().forEach(order::addAll);
+            this.stickyPriorityInventory.descendingMap().values().forEach(order::addAll);
+
+            for (int i = 0; i < order.size(); i++) {
+                final IMEInventoryHandler<T> h = order.get(i);
+
+                if (h instanceof ITrackedInventoryHandler) {
+                    this.trackedByHost.computeIfAbsent(((ITrackedInventoryHandler) h).getReportingHost(), $ -> new BitSet()).set(i);
+
+                    for (final T stack : h.getAvailableItems(this.myChannel.createList())) {
+                        this.trackedHolders.computeIfAbsent(stack, $ -> new BitSet()).set(i);
+                    }
+                } else {
+                    this.untrackedHandlers.set(i);
+                }
+            }
+
+            this.extractionOrder = order;
+        }
+
+        return this.extractionOrder;
+    }
+
+    private void invalidateExtractionIndex() {
+        this.extractionOrder = null;
+        this.untrackedHandlers.clear();
+        this.trackedHolders.clear();
+        this.trackedByHost.clear();
+    }
+
     @Override
     public IItemList<T> getAvailableItems(IItemList<T> out) {
         if (this.diveIteration(this, Actionable.SIMULATE)) {
@@ -31,6 +31,7 @@ import appeng.api.util.AEColor;
 import appeng.api.util.AEPartLocation;
 import appeng.api.util.DimensionalCoord;
 import appeng.client.render.cablebus.CableBusRenderState;
+import appeng.client.render.cablebus.CableBusRenderStats;
 import appeng.client.render.cablebus.CableCoreType;
 import appeng.client.render.cablebus.FacadeRenderState;
 import appeng.core.AELog;
@@ -71,6 +72,9 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     // TODO 1.10.2-R - does somebody seriously want to make parts TESR??? Hope not.
     private boolean requiresDynamicRender = false;
     private boolean inWorld = false;
+    // rebuilding the render state for every chunk rebuild is costly on cable heavy bases, so it is kept until it changes
+    private volatile CachedRenderState cachedRenderState;
+    private volatile int renderStateVersion;
 
     public CableBusContainer(final IPartHost host) {
         this.tcb = host;
@@ -102,6 +106,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
         }
 
         this.getFacadeContainer().rotateLeft();
+        this.invalidateRenderState();
     }
 
     @Override
@@ -296,6 +301,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
 
     @Override
     public void markForUpdate() {
+        this.invalidateRenderState();
         this.tcb.markForUpdate();
     }
 
@@ -681,6 +687,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     @Override
     public void onNeighborChanged(IBlockAccess w, BlockPos pos, BlockPos neighbor) {
         this.hasRedstone = YesNo.UNDECIDED;
+        this.invalidateRenderState();
 
         for (final AEPartLocation s : AEPartLocation.values()) {
             final IPart part = this.getPart(s);
@@ -807,9 +814,10 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
         }
 
         if (this.getFacadeContainer().readFromStream(data)) {
-            return true;
+            updateBlock = true;
         }
 
+        this.invalidateRenderState();
         return updateBlock;
     }
 
@@ -885,6 +893,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
         }
 
         this.getFacadeContainer().readFromNBT(data);
+        this.invalidateRenderState();
     }
 
     public List<ItemStack> getDrops(final List<ItemStack> drops) {
@@ -937,6 +946,29 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
 
     @Override
     public CableBusRenderState getRenderState() {
+        final int version = this.renderStateVersion;
+        final CachedRenderState cached = this.cachedRenderState;
+
+        if (cached != null && cached.isValid(this, version)) {
+            CableBusRenderStats.RENDER_STATES.hit();
+            return cached.state;
+        }
+
+        CableBusRenderStats.RENDER_STATES.miss();
+        final CableBusRenderState renderState = this.buildRenderState();
+        this.cachedRenderState = new CachedRenderState(renderState, version, AEApi.instance().partHelper().getCableRenderMode());
+        return renderState;
+    }
+
+    /**
+     * Makes the next {@link #getRenderState()} build a new render state, called whenever parts, facades, connections
+     * or channels of this bus might have changed.
+     */
+    private void invalidateRenderState() {
+        this.renderStateVersion++;
+    }
+
+    private CableBusRenderState buildRenderState() {
         final PartCable cable = (PartCable) this.getCenter();
 
         final CableBusRenderState renderState = new CableBusRenderState();
@@ -953,23 +985,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
                     continue;
                 }
 
-                // If there is one, check out which type it has, but default to this cable's type
-                AECableType connectionType = cable.getCableConnectionType();
-
-                // Only use the incoming cable-type of the adjacent block, if it's not a cable bus itself
-                // Dense cables however also respect the adjacent cable-type since their outgoing connection
-                // point would look too big for other cable types
-                final BlockPos adjacentPos = this.getTile().getPos().offset(facing);
-                final TileEntity adjacentTe = this.getTile().getWorld().getTileEntity(adjacentPos);
-
-                if (adjacentTe instanceof IGridHost) {
-                    final IGridHost gridHost = (IGridHost) adjacentTe;
-                    final AECableType adjacentType = gridHost.getCableConnectionType(AEPartLocation.fromFacing(facing.getOpposite()));
-
-                    connectionType = AECableType.min(connectionType, adjacentType);
-                }
-
-                renderState.getConnectionTypes().put(facing, connectionType);
+                renderState.getConnectionTypes().put(facing, this.getConnectionType(cable, facing));
             }
 
             // Collect the number of channels used per side
@@ -1024,6 +1040,26 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
         return renderState;
     }
 
+    private AECableType getConnectionType(final PartCable cable, final EnumFacing facing) {
+        // If there is one, check out which type it has, but default to this cable's type
+        AECableType connectionType = cable.getCableConnectionType();
+
+        // Only use the incoming cable-type of the adjacent block, if it's not a cable bus itself
+        // Dense cables however also respect the adjacent cable-type since their outgoing connection
+        // point would look too big for other cable types
+        final BlockPos adjacentPos = this.getTile().getPos().offset(facing);
+        final TileEntity adjacentTe = this.getTile().getWorld().getTileEntity(adjacentPos);
+
+        if (adjacentTe instanceof IGridHost) {
+            final IGridHost gridHost = (IGridHost) adjacentTe;
+            final AECableType adjacentType = gridHost.getCableConnectionType(AEPartLocation.fromFacing(facing.getOpposite()));
+
+            connectionType = AECableType.min(connectionType, adjacentType);
+        }
+
+        return connectionType;
+    }
+
     private FacadeRenderState getFacadeRenderState(EnumFacing side) {
         // Store the "masqueraded" itemstack for the given side, if there is a facade
         final IFacadePart facade = this.getFacade(side.ordinal());
@@ -1039,4 +1075,34 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
 
         return null;
     }
+
+    private static final class CachedRenderState {
+        private final CableBusRenderState state;
+        private final int version;
+        private final CableRenderMode renderMode;
+
+        private CachedRenderState(final CableBusRenderState state, final int version, final CableRenderMode renderMode) {
+            this.state = state;
+            this.version = version;
+            this.renderMode = renderMode;
+        }
+
+        private boolean isValid(final CableBusContainer bus, final int currentVersion) {
+            if (this.version != currentVersion || this.renderMode != AEApi.instance().partHelper().getCableRenderMode()) {
+                return false;
+            }
+
+            // adjacent blocks do not tell us when their cable type changes, so those few are compared every time.
+            final PartCable cable = (PartCable) bus.getCenter();
+            if (cable != null) {
+                for (final Map.Entry<EnumFacing, AECableType> connection : this.state.getConnectionTypes().entrySet()) {
+                    if (bus.getConnectionType(cable, connection.getKey()) != connection.getValue()) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+    }
 }
@@ -32,13 +32,13 @@ import appeng.api.storage.IMEMonitorHandlerReceiver;
 import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.me.GridAccessException;
 import appeng.me.helpers.IGridProxyable;
 import appeng.me.storage.ITickingMonitor;
-import appeng.util.inv.ItemHandlerIterator;
-import appeng.util.inv.ItemSlot;
 import appeng.util.item.AEItemStack;
+import appeng.util.item.ItemList;
 import com.google.common.primitives.Ints;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -69,7 +69,7 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
             this.access = ((AccessRestriction) partStorageBus.getConfigManager().getSetting(Settings.ACCESS));
         }
         this.cache = new InventoryCache(this.itemHandler, this.mode);
-        this.cache.update();
+        this.cache.update(Integer.MAX_VALUE);
     }
 
     @Override
@@ -81,7 +81,11 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 
         int slotCount = this.itemHandler.getSlots();
         for (int i = 0; i < slotCount && !remaining.isEmpty(); i++) {
+            final int before = remaining.getCount();
             remaining = this.itemHandler.insertItem(i, remaining, type == Actionable.SIMULATE);
+            if (type == Actionable.MODULATE && remaining.getCount() != before) {
+                this.cache.markDirty(i);
+            }
         }
 
         // Store the stack in the cache for next time.
@@ -100,9 +104,9 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         }
 
         if (type == Actionable.MODULATE) {
-            IAEItemStack added = iox.copy().setStackSize(iox.getStackSize() - remaining.getCount());
-            this.cache.currentlyCached.add(added);
-            this.postDifference(Collections.singletonList(added));
+            final IAEItemStack added = iox.copy().setStackSize(iox.getStackSize() - remaining.getCount());
+            this.postChange(added);
+            this.postDifference(this.cache.update(0));
             try {
                 this.proxyable.getProxy().getTick().alertDevice(this.proxyable.getProxy().getNode());
             } catch (GridAccessException ex) {
@@ -160,6 +164,10 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
                         extracted.setCount(remainingCurrentSlot);
                     }
 
+                    if (!simulate) {
+                        this.cache.markDirty(i);
+                    }
+
                     if (gathered.isEmpty()) {
                         gathered = extracted;
                     } else {
@@ -178,11 +186,8 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         if (!gathered.isEmpty()) {
             IAEItemStack gatheredAEItemStack = AEItemStack.fromItemStack(gathered);
             if (mode == Actionable.MODULATE) {
-                IAEItemStack cachedStack = this.cache.currentlyCached.findPrecise(request);
-                if (cachedStack != null) {
-                    cachedStack.decStackSize(gatheredAEItemStack.getStackSize());
-                    this.postDifference(Collections.singletonList(gatheredAEItemStack.copy().setStackSize(-gatheredAEItemStack.getStackSize())));
-                }
+                this.postChange(gatheredAEItemStack.copy().setStackSize(-gatheredAEItemStack.getStackSize()));
+                this.postDifference(this.cache.update(0));
                 try {
                     this.proxyable.getProxy().getTick().alertDevice(this.proxyable.getProxy().getNode());
                 } catch (GridAccessException ex) {
@@ -198,15 +203,24 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 
     @Override
     public TickRateModulation onTick() {
-        List<IAEItemStack> changes = this.cache.update();
+        IItemList<IAEItemStack> changes = this.cache.update(AEConfig.instance().getStorageBusSlotsPerTick());
         if (!changes.isEmpty() && access.hasPermission(AccessRestriction.READ)) {
             this.postDifference(changes);
             return TickRateModulation.URGENT;
+        } else if (this.cache.hasPendingSweep()) {
+            return TickRateModulation.URGENT;
+        } else if (this.cache.isSweeping()) {
+            return TickRateModulation.SAME;
         } else {
             return TickRateModulation.SLOWER;
         }
     }
 
+    @Override
+    public void onNeighborChanged() {
+        this.cache.markAllDirty();
+    }
+
     @Override
     public void setActionSource(final IActionSource mySource) {
         this.mySource = mySource;
@@ -232,7 +246,23 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         this.listeners.remove(l);
     }
 
-    private void postDifference(Iterable<IAEItemStack> a) {
+    /**
+     * Posts a change made through this adapter right away. The handler might have put the items into another slot than
+     * the one the storage bus touched, so the slot cache only catches up with it on a later scan.
+     */
+    private void postChange(final IAEItemStack change) {
+        this.cache.expect(change);
+
+        final IItemList<IAEItemStack> changes = new ItemList();
+        changes.add(change);
+        this.postDifference(changes);
+    }
+
+    private void postDifference(IItemList<IAEItemStack> a) {
+        if (a.isEmpty()) {
+            return;
+        }
+
         final Iterator<Map.Entry<IMEMonitorHandlerReceiver<IAEItemStack>, Object>> i = this.listeners.entrySet().iterator();
         while (i.hasNext()) {
             final Map.Entry<IMEMonitorHandlerReceiver<IAEItemStack>, Object> l = i.next();
@@ -245,10 +275,25 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         }
     }
 
-    private static class InventoryCache implements Iterable<ItemSlot> {
+    /**
+     * Remembers the last seen content of every slot, so a scan only has to touch the slots it compares and only
+     * allocates for slots that actually changed. Slots are scanned round-robin with a bounded number per tick, slots
+     * touched by the storage bus itself are rescanned right away.
+     * <p>
+     * Changes made by the storage bus are posted before any scan has seen them. Scans finding them later only report
+     * what goes beyond them, and whatever a whole sweep did not find in any slot is taken back again.
+     */
+    private static class InventoryCache {
         private final IItemHandler itemHandler;
         private final StorageFilter mode;
-        IItemList<IAEItemStack> currentlyCached = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        private final BitSet dirtySlots = new BitSet();
+        private IItemList<IAEItemStack> currentlyCached = new ItemList();
+        // posted changes not found in a slot yet, from the running sweep and the one before it.
+        private IItemList<IAEItemStack> expectedNow = new ItemList();
+        private IItemList<IAEItemStack> expectedBefore = new ItemList();
+        private ItemStack[] slotStacks = new ItemStack[0];
+        private int nextSlot = 0;
+        private int pendingSweep = 0;
 
         public InventoryCache(IItemHandler itemHandler, StorageFilter mode) {
             this.mode = mode;
@@ -264,41 +309,144 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
             return this.mode;
         }
 
-        public List<IAEItemStack> update() {
-            final List<IAEItemStack> changes = new ArrayList<>();
+        void expect(final IAEItemStack change) {
+            this.currentlyCached.add(change);
+            this.expectedNow.add(change);
+        }
+
+        void markDirty(final int slot) {
+            this.dirtySlots.set(slot);
+        }
 
-            IItemList<IAEItemStack> currentlyOnStorage = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        /**
+         * The target told us something changed, but not where. Keep sweeping until every slot was looked at.
+         */
+        void markAllDirty() {
+            this.pendingSweep = this.slotStacks.length;
+        }
 
-            for (final ItemSlot is : this) {
-                if (this.mode == StorageFilter.EXTRACTABLE_ONLY && !is.isExtractable()) {
-                    continue;
-                }
-                currentlyOnStorage.add(is.getAEItemStack());
+        boolean hasPendingSweep() {
+            return this.pendingSweep > 0;
+        }
+
+        boolean isSweeping() {
+            return this.nextSlot != 0;
+        }
+
+        /**
+         * Rescans all dirty slots and up to {@code budget} further slots.
+         *
+         * @return the changes found which were not posted yet, merged per item.
+         */
+        public IItemList<IAEItemStack> update(final int budget) {
+            final IItemList<IAEItemStack> found = new ItemList();
+
+            final int slots = this.itemHandler.getSlots();
+            if (slots != this.slotStacks.length) {
+                this.resize(slots, found);
             }
 
-            for (final IAEItemStack is : currentlyCached) {
-                is.setStackSize(-is.getStackSize());
+            for (int slot = this.dirtySlots.nextSetBit(0); slot >= 0 && slot < slots; slot = this.dirtySlots.nextSetBit(slot + 1)) {
+                this.scanSlot(slot, found);
+            }
+            this.dirtySlots.clear();
+
+            boolean sweepDone = false;
+            final int toScan = Math.min(budget, slots);
+            for (int i = 0; i < toScan; i++) {
+                this.scanSlot(this.nextSlot, found);
+                if (this.nextSlot + 1 < slots) {
+                    this.nextSlot++;
+                } else {
+                    this.nextSlot = 0;
+                    sweepDone = true;
+                }
             }
+            this.pendingSweep = Math.max(0, this.pendingSweep - toScan);
 
-            for (final IAEItemStack is : currentlyOnStorage) {
-                currentlyCached.add(is);
+            final IItemList<IAEItemStack> changes = new ItemList();
+            for (final IAEItemStack change : found) {
+                long size = change.getStackSize();
+                size -= takeExpected(this.expectedBefore, change, size);
+                size -= takeExpected(this.expectedNow, change, size);
+
+                if (size != 0) {
+                    changes.add(change.copy().setStackSize(size));
+                }
             }
 
-            for (final IAEItemStack is : currentlyCached) {
-                if (is.getStackSize() != 0) {
-                    changes.add(is);
+            if (sweepDone) {
+                // every slot was looked at since these were posted, they did not end up in the inventory.
+                for (final IAEItemStack missing : this.expectedBefore) {
+                    changes.add(missing.copy().setStackSize(-missing.getStackSize()));
                 }
+
+                this.expectedBefore = this.expectedNow;
+                this.expectedNow = new ItemList();
             }
 
-            currentlyCached = currentlyOnStorage;
+            for (final IAEItemStack change : changes) {
+                this.currentlyCached.add(change);
+            }
 
             return changes;
         }
 
-        @Override
-        public Iterator<ItemSlot> iterator() {
-            return new ItemHandlerIterator(this.itemHandler);
+        /**
+         * @return how much of a change of the given size was already posted, taken off the expected changes.
+         */
+        private static long takeExpected(final IItemList<IAEItemStack> expected, final IAEItemStack change, final long size) {
+            final IAEItemStack posted = expected.findPrecise(change);
+            if (posted == null || size == 0 || Long.signum(posted.getStackSize()) != Long.signum(size)) {
+                return 0;
+            }
+
+            final long taken = Math.abs(size) < Math.abs(posted.getStackSize()) ? size : posted.getStackSize();
+            posted.setStackSize(posted.getStackSize() - taken);
+            return taken;
         }
 
+        private void resize(final int slots, final IItemList<IAEItemStack> changes) {
+            for (int slot = slots; slot < this.slotStacks.length; slot++) {
+                this.setSlot(slot, ItemStack.EMPTY, changes);
+            }
+
+            final int oldSlots = this.slotStacks.length;
+            this.slotStacks = Arrays.copyOf(this.slotStacks, slots);
+            for (int slot = oldSlots; slot < slots; slot++) {
+                this.slotStacks[slot] = ItemStack.EMPTY;
+                this.dirtySlots.set(slot);
+            }
+
+            if (this.nextSlot >= slots) {
+                this.nextSlot = 0;
+            }
+        }
+
+        private void scanSlot(final int slot, final IItemList<IAEItemStack> changes) {
+            ItemStack stack = this.itemHandler.getStackInSlot(slot);
+            if (!stack.isEmpty() && this.mode == StorageFilter.EXTRACTABLE_ONLY && this.itemHandler.extractItem(slot, Integer.MAX_VALUE, true).isEmpty()) {
+                stack = ItemStack.EMPTY;
+            }
+
+            if (!ItemStack.areItemStacksEqual(this.slotStacks[slot], stack)) {
+                this.setSlot(slot, stack, changes);
+            }
+        }
+
+        private void setSlot(final int slot, final ItemStack stack, final IItemList<IAEItemStack> changes) {
+            final ItemStack previous = this.slotStacks[slot];
+            if (!previous.isEmpty()) {
+                final IAEItemStack removed = AEItemStack.fromItemStack(previous);
+                removed.setStackSize(-removed.getStackSize());
+                changes.add(removed);
+            }
+
+            if (!stack.isEmpty()) {
+                changes.add(AEItemStack.fromItemStack(stack));
+            }
+
+            this.slotStacks[slot] = stack.isEmpty() ? ItemStack.EMPTY : stack.copy();
+        }
     }
 }
@@ -224,6 +224,16 @@ public class PartInterface extends PartBasicState implements IGridTickable, ISto
         return this.duality.pushPattern(patternDetails, table);
     }
 
+    @Override
+    public boolean canPushMultipleCopies() {
+        return this.duality.canPushMultipleCopies();
+    }
+
+    @Override
+    public int pushPatterns(final ICraftingPatternDetails patternDetails, final InventoryCrafting table, final int copies) {
+        return this.duality.pushPatterns(patternDetails, table, copies);
+    }
+
     @Override
     public boolean isBusy() {
         return this.duality.isBusy();
@@ -283,6 +283,9 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
                     this.resetCache();
                 }
             } else {
+                if (this.monitor != null) {
+                    this.monitor.onNeighborChanged();
+                }
                 this.resetCache(false);
             }
         }
@@ -35,16 +35,19 @@ import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
 import appeng.api.util.AEPartLocation;
 import appeng.api.util.IReadOnlyCollection;
+import appeng.hooks.TickHandler;
 import appeng.items.parts.ItemPart;
 import appeng.items.tools.powered.ToolColorApplicator;
 import appeng.me.GridAccessException;
 import appeng.parts.AEBasePart;
+import appeng.tile.AEBaseTile;
 import appeng.util.Platform;
 import com.google.common.collect.ImmutableSet;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 
@@ -165,6 +168,18 @@ public class PartCable extends AEBasePart implements IPartCable {
         this.getHost().markForUpdate();
     }
 
+    /**
+     * Like {@link #markForUpdate()}, but for changed channel counts, which clients far away can do without for a while.
+     */
+    protected void markForChannelUpdate() {
+        final TileEntity te = this.getHost().getTile();
+        if (te instanceof AEBaseTile) {
+            TickHandler.INSTANCE.markForVisualUpdate((AEBaseTile) te);
+        } else {
+            this.getHost().markForUpdate();
+        }
+    }
+
     @Override
     public void getBoxes(final IPartCollisionHelper bch) {
         bch.addBox(6.0, 6.0, 6.0, 10.0, 10.0, 10.0);
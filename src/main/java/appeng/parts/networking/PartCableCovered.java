@@ -39,7 +39,7 @@ public class PartCableCovered extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        this.markForChannelUpdate();
     }
 
     @MENetworkEventSubscribe
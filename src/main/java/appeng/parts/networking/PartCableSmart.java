@@ -39,7 +39,7 @@ public class PartCableSmart extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        this.markForChannelUpdate();
     }
 
     @MENetworkEventSubscribe
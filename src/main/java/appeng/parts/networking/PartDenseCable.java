@@ -127,7 +127,7 @@ public abstract class PartDenseCable extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        this.markForChannelUpdate();
     }
 
     @MENetworkEventSubscribe
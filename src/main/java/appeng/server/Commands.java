@@ -20,6 +20,7 @@ package appeng.server;
 
 
 import appeng.server.subcommands.ChunkLogger;
+import appeng.server.subcommands.Profiler;
 import appeng.server.subcommands.Supporters;
 import appeng.services.compass.TestCompassCommand;
 
@@ -27,6 +28,7 @@ import appeng.services.compass.TestCompassCommand;
 public enum Commands {
     // Admin
     Chunklogger(4, new ChunkLogger()),
+    Profiler(4, new Profiler()),
 
     // Testing
     Compass(4, new TestCompassCommand()),
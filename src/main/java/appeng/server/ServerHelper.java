@@ -35,6 +35,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.FMLCommonHandler;
@@ -137,6 +138,11 @@ public class ServerHelper extends CommonHelper {
 
     }
 
+    @Override
+    public void scheduleRenderUpdate(final World world, final BlockPos pos) {
+        world.markBlockRangeForRenderUpdate(pos, pos);
+    }
+
     @Override
     public void updateRenderMode(final EntityPlayer player) {
         this.renderModeBased = player;
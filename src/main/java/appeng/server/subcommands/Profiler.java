@@ -0,0 +1,124 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+
+import appeng.hooks.TickProfiler;
+import appeng.server.ISubCommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import java.io.File;
+import java.util.Locale;
+
+
+/**
+ * /ae2 Profiler start [seconds] | stop | show [grid|cache|machine|event] [count] | export [csv|json|off]
+ */
+public class Profiler implements ISubCommand {
+
+    private static final int DEFAULT_WINDOW_SECONDS = 10;
+    private static final int DEFAULT_SHOWN = 10;
+
+    @Override
+    public String getHelp(final MinecraftServer srv) {
+        return "commands.ae2.Profiler";
+    }
+
+    @Override
+    public void call(final MinecraftServer srv, final String[] data, final ICommandSender sender) {
+        final String action = data.length > 1 ? data[1].toLowerCase(Locale.ROOT) : "show";
+
+        switch (action) {
+            case "start":
+                final int seconds = data.length > 2 ? Math.max(1, Integer.parseInt(data[2])) : DEFAULT_WINDOW_SECONDS;
+                TickProfiler.INSTANCE.start(seconds * 20);
+                sender.sendMessage(new TextComponentTranslation("commands.ae2.ProfilerStarted", seconds));
+                break;
+            case "stop":
+                TickProfiler.INSTANCE.stop();
+                sender.sendMessage(new TextComponentTranslation("commands.ae2.ProfilerStopped"));
+                break;
+            case "show":
+                this.show(sender, data.length > 2 ? TickProfiler.Category.valueOf(data[2].toUpperCase(Locale.ROOT)) : null, data.length > 3 ? Integer.parseInt(data[3]) : DEFAULT_SHOWN);
+                break;
+            case "export":
+                this.export(srv, sender, data.length > 2 ? data[2].toUpperCase(Locale.ROOT) : "CSV");
+                break;
+            default:
+                sender.sendMessage(new TextComponentTranslation(this.getHelp(srv)));
+        }
+    }
+
+    private void show(final ICommandSender sender, final TickProfiler.Category category, final int count) {
+        final TickProfiler.Report report = TickProfiler.INSTANCE.getLastReport();
+        if (report == null) {
+            sender.sendMessage(new TextComponentTranslation(TickProfiler.isEnabled() ? "commands.ae2.ProfilerNoReport" : "commands.ae2.ProfilerNotRunning"));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentString("Last " + report.getTicks() + " ticks, per tick:"));
+
+        int shown = 0;
+        for (final TickProfiler.Section s : report.getSections()) {
+            if (shown >= count) {
+                break;
+            }
+
+            if (category == null || s.getCategory() == category) {
+                sender.sendMessage(new TextComponentString(s.getCategory() + " " + s.getName() + ": " + timeMeasurement(s.getNanos() / report.getTicks()) + " avg, " + timeMeasurement(s.getMaxNanos()) + " max, " + s.getCalls() / report.getTicks() + " calls, " + s.getAllocatedBytes() / report.getTicks() / 1024 + " KiB"));
+                shown++;
+            }
+        }
+    }
+
+    private void export(final MinecraftServer srv, final ICommandSender sender, final String format) {
+        if ("OFF".equals(format)) {
+            TickProfiler.INSTANCE.setExport(null, null);
+            sender.sendMessage(new TextComponentTranslation("commands.ae2.ProfilerExportOff"));
+            return;
+        }
+
+        final TickProfiler.ExportFormat exportFormat = TickProfiler.ExportFormat.valueOf(format);
+        final File directory = srv.getFile("ae2profiler");
+        TickProfiler.INSTANCE.setExport(directory, exportFormat);
+        sender.sendMessage(new TextComponentTranslation("commands.ae2.ProfilerExportOn", directory.getPath()));
+
+        // don't make them wait for the next window if there already is a report
+        final TickProfiler.Report report = TickProfiler.INSTANCE.getLastReport();
+        if (report != null) {
+            final File file = TickProfiler.INSTANCE.export(report, exportFormat);
+            if (file != null) {
+                sender.sendMessage(new TextComponentTranslation("commands.ae2.ProfilerExported", file.getPath()));
+            }
+        }
+    }
+
+    private static String timeMeasurement(final long nanos) {
+        if (nanos < 1000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return (nanos / 100) / 10.0f + "us";
+        }
+        return (nanos / 100_000) / 10.0f + "ms";
+    }
+}
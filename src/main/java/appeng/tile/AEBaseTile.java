@@ -261,11 +261,18 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
             // TODO: Optimize Network Load
             if (this.world != null) {
                 AELog.blockUpdate(this.pos, this);
-                this.world.notifyBlockUpdate(this.pos, this.getBlockState(), this.getBlockState(), 3);
+                this.notifyBlockUpdate();
             }
         }
     }
 
+    /**
+     * Sends the tile to the clients watching it on the server, and redraws it on the client.
+     */
+    protected void notifyBlockUpdate() {
+        this.world.notifyBlockUpdate(this.pos, this.getBlockState(), this.getBlockState(), 3);
+    }
+
     /**
      * By default all blocks can have orientation, this handles saving, and loading, as well as synchronization.
      *
@@ -27,6 +27,7 @@ import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
 import appeng.api.util.AEPartLocation;
 import appeng.api.util.DimensionalCoord;
+import appeng.core.AppEng;
 import appeng.helpers.AEMultiTile;
 import appeng.helpers.ICustomCollision;
 import appeng.hooks.TickHandler;
@@ -168,6 +169,16 @@ public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomColl
         super.markForUpdate();
     }
 
+    @Override
+    protected void notifyBlockUpdate() {
+        if (this.world.isRemote) {
+            // whole networks change their channels at once, so let the client spread the chunk rebuilds
+            AppEng.proxy.scheduleRenderUpdate(this.world, this.pos);
+        } else {
+            super.notifyBlockUpdate();
+        }
+    }
+
     @Override
     public boolean canBeRotated() {
         return false;
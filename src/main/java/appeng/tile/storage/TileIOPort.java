@@ -42,6 +42,7 @@ import appeng.api.util.DimensionalCoord;
 import appeng.api.util.IConfigManager;
 import appeng.core.settings.TickRates;
 import appeng.me.GridAccessException;
+import appeng.me.cache.GridStorageCache;
 import appeng.me.helpers.MachineSource;
 import appeng.parts.automation.BlockUpgradeInventory;
 import appeng.parts.automation.UpgradeInventory;
@@ -67,6 +68,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.items.IItemHandler;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -303,11 +305,16 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
                 itemsToMove *= 4;
                 break;
             case 3:
-                itemsToMove *= 8;
+                // fully accelerated ports move whole cells, only limited by power and the space available
+                itemsToMove = Long.MAX_VALUE;
                 break;
         }
 
+        GridStorageCache storage = null;
         try {
+            storage = (GridStorageCache) this.getProxy().getStorage();
+            storage.beginBatch();
+
             final IEnergySource energy = this.getProxy().getEnergy();
             for (int x = 0; x < NUMBER_OF_CELL_SLOTS; x++) {
                 final ItemStack is = this.inputCells.getStackInSlot(x);
@@ -316,7 +323,7 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
 
                     for (IStorageChannel<? extends IAEStack<?>> c : AEApi.instance().storage().storageChannels()) {
                         if (itemsToMove > 0) {
-                            final IMEMonitor<? extends IAEStack<?>> network = this.getProxy().getStorage().getInventory(c);
+                            final IMEMonitor<? extends IAEStack<?>> network = storage.getInventory(c);
                             final IMEInventory<?> inv = this.getInv(is, c);
 
                             if (inv == null) {
@@ -349,6 +356,10 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
             }
         } catch (final GridAccessException e) {
             ret = TickRateModulation.IDLE;
+        } finally {
+            if (storage != null) {
+                storage.endBatch();
+            }
         }
 
         return ret;
@@ -372,6 +383,11 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
         return this.cachedInventories.get(chan);
     }
 
+    /**
+     * Moves up to itemsToMove from src into destination. All types are planned against the destination in a single
+     * pass first, the power for the whole plan is drawn once and only then are the planned stacks moved, returning
+     * whatever the destination did not accept after all.
+     */
     private long transferContents(final IEnergySource energy, final IMEInventory src, final IMEInventory destination, long itemsToMove, final IStorageChannel chan) {
         final IItemList<? extends IAEStack> myList;
         if (src instanceof IMEMonitor) {
@@ -380,56 +396,77 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
             myList = src.getAvailableItems(src.getChannel().createList());
         }
 
-        itemsToMove *= chan.transferFactor();
+        final int transferFactor = chan.transferFactor();
+        itemsToMove = itemsToMove > Long.MAX_VALUE / transferFactor ? Long.MAX_VALUE : itemsToMove * transferFactor;
+
+        final List<IAEStack> planned = new ArrayList<>();
+        long plannedTotal = 0;
 
-        boolean didStuff;
+        for (final IAEStack s : myList) {
+            if (plannedTotal >= itemsToMove) {
+                break;
+            }
 
-        do {
-            didStuff = false;
+            final long totalStackSize = s.getStackSize();
+            if (totalStackSize > 0) {
+                final IAEStack stack = destination.injectItems(s, Actionable.SIMULATE, this.mySrc);
 
-            for (final IAEStack s : myList) {
-                final long totalStackSize = s.getStackSize();
-                if (totalStackSize > 0) {
-                    final IAEStack stack = destination.injectItems(s, Actionable.SIMULATE, this.mySrc);
+                long possible;
+                if (stack == null) {
+                    possible = totalStackSize;
+                } else {
+                    possible = totalStackSize - stack.getStackSize();
+                }
 
-                    long possible = 0;
-                    if (stack == null) {
-                        possible = totalStackSize;
-                    } else {
-                        possible = totalStackSize - stack.getStackSize();
-                    }
+                possible = Math.min(possible, itemsToMove - plannedTotal);
+                if (possible > 0) {
+                    final IAEStack injectable = s.copy();
+                    injectable.setStackSize(possible);
+                    planned.add(injectable);
+                    plannedTotal += possible;
+                }
+            }
+        }
 
-                    if (possible > 0) {
-                        IAEStack injectable = s.copy();
+        if (plannedTotal == 0) {
+            return itemsToMove / transferFactor;
+        }
 
-                        possible = Math.min(possible, itemsToMove);
-                        injectable.setStackSize(possible);
+        final double energyFactor = Math.max(1.0, transferFactor);
+        final double availablePower = energy.extractAEPower(plannedTotal / energyFactor, Actionable.SIMULATE, PowerMultiplier.CONFIG);
+        long affordable = Math.min((long) ((availablePower * energyFactor) + 0.9), plannedTotal);
+        long moved = 0;
 
-                        final IAEStack extracted = src.extractItems(injectable, Actionable.MODULATE, this.mySrc);
-                        if (extracted != null) {
-                            possible = extracted.getStackSize();
-                            extracted.setCraftable(false);
-                            final IAEStack failed = Platform.poweredInsert(energy, destination, extracted, this.mySrc);
+        for (final IAEStack injectable : planned) {
+            if (affordable <= 0) {
+                break;
+            }
 
-                            if (failed != null) {
-                                possible -= failed.getStackSize();
-                                src.injectItems(failed, Actionable.MODULATE, this.mySrc);
-                            }
+            if (injectable.getStackSize() > affordable) {
+                injectable.setStackSize(affordable);
+            }
 
-                            if (possible > 0) {
-                                itemsToMove -= possible;
-                                didStuff = true;
-                            }
+            final IAEStack extracted = src.extractItems(injectable, Actionable.MODULATE, this.mySrc);
+            if (extracted != null) {
+                long possible = extracted.getStackSize();
+                extracted.setCraftable(false);
+                final IAEStack failed = destination.injectItems(extracted, Actionable.MODULATE, this.mySrc);
 
-                            break;
-                        }
-                    }
+                if (failed != null) {
+                    possible -= failed.getStackSize();
+                    src.injectItems(failed, Actionable.MODULATE, this.mySrc);
                 }
+
+                moved += possible;
+                affordable -= possible;
             }
         }
-        while (itemsToMove > 0 && didStuff);
 
-        return itemsToMove / chan.transferFactor();
+        if (moved > 0) {
+            energy.extractAEPower(moved / energyFactor, Actionable.MODULATE, PowerMultiplier.CONFIG);
+        }
+
+        return (itemsToMove - moved) / transferFactor;
     }
 
     private boolean shouldMove(final IMEInventory<?> inv) {
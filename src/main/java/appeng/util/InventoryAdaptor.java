@@ -31,6 +31,8 @@ import net.minecraftforge.common.capabilities.CapabilityInject;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 
+import java.util.List;
+
 /**
  * Universal Facade for other inventories. Used to conveniently interact with various types of inventories. This is not
  * used for
@@ -82,6 +84,22 @@ public abstract class InventoryAdaptor implements Iterable<ItemSlot> {
 
     public abstract ItemStack simulateAdd(ItemStack toBeSimulated);
 
+    /**
+     * Simulates adding the given stacks one after another. Inventories which know their slots override this, as
+     * simulating them one by one lets every stack count on the same free space.
+     *
+     * @return true if all of them fit
+     */
+    public boolean simulateAddAll(final List<ItemStack> stacks) {
+        for (final ItemStack is : stacks) {
+            if (!this.simulateAdd(is).isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public abstract boolean containsItems();
 
     public abstract boolean hasSlots();
@@ -24,8 +24,11 @@ import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 
 public class AdaptorItemHandler extends InventoryAdaptor {
@@ -209,6 +212,42 @@ public class AdaptorItemHandler extends InventoryAdaptor {
         return itemsToAdd;
     }
 
+    /**
+     * Keeps track of what the simulation already put into each slot, and asks the handler how much of that item the
+     * slot takes in total, so later stacks only get the space left over by earlier ones.
+     */
+    @Override
+    public boolean simulateAddAll(final List<ItemStack> stacks) {
+        final int slots = this.itemHandler.getSlots();
+        final ItemStack[] added = new ItemStack[slots];
+        Arrays.fill(added, ItemStack.EMPTY);
+
+        for (final ItemStack is : stacks) {
+            int remaining = is.getCount();
+
+            for (int slot = 0; slot < slots && remaining > 0; slot++) {
+                final ItemStack before = added[slot];
+                if (!before.isEmpty() && !ItemHandlerHelper.canItemStacksStack(before, is)) {
+                    continue;
+                }
+
+                final ItemStack probe = ItemHandlerHelper.copyStackWithSize(is, before.getCount() + remaining);
+                final int accepted = probe.getCount() - this.itemHandler.insertItem(slot, probe, true).getCount();
+
+                if (accepted > before.getCount()) {
+                    remaining -= accepted - before.getCount();
+                    added[slot] = ItemHandlerHelper.copyStackWithSize(is, accepted);
+                }
+            }
+
+            if (remaining > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public boolean containsItems() {
         int slots = this.itemHandler.getSlots();
@@ -130,6 +130,33 @@ public class AEItemStack extends AEStack<IAEItemStack> implements IAEItemStack {
         return item;
     }
 
+    /**
+     * Reads the amounts written by {@link #writeAmountsToPacket(ByteBuf)}.
+     *
+     * @param definition the stack they belong to, null to skip them
+     * @return a copy of definition with the read amounts
+     */
+    @Nullable
+    public static IAEItemStack fromPacket(final ByteBuf data, @Nullable final IAEItemStack definition) {
+        final byte mask = data.readByte();
+        final byte stackType = (byte) ((mask & 0x0C) >> 2);
+        final byte countReqType = (byte) ((mask & 0x30) >> 4);
+        final boolean isCraftable = (mask & 0x40) > 0;
+
+        final long stackSize = getPacketValue(stackType, data);
+        final long countRequestable = getPacketValue(countReqType, data);
+
+        if (definition == null) {
+            return null;
+        }
+
+        final IAEItemStack item = definition.copy();
+        item.setStackSize(stackSize);
+        item.setCountRequestable(countRequestable);
+        item.setCraftable(isCraftable);
+        return item;
+    }
+
     @Override
     public void writeToPacket(final ByteBuf i) {
         final byte mask = (byte) ((this.getType(this.getStackSize()) << 2) | (this.getType(this.getCountRequestable()) << 4) | ((byte) (this.isCraftable() ? 1 : 0) << 6) | (this.hasTagCompound() ? 1 : 0) << 7);
@@ -140,6 +167,17 @@ public class AEItemStack extends AEStack<IAEItemStack> implements IAEItemStack {
         this.putPacketValue(i, this.getCountRequestable());
     }
 
+    /**
+     * Writes only the amounts, for receivers which already know the definition of this stack.
+     */
+    public void writeAmountsToPacket(final ByteBuf i) {
+        final byte mask = (byte) ((this.getType(this.getStackSize()) << 2) | (this.getType(this.getCountRequestable()) << 4) | ((byte) (this.isCraftable() ? 1 : 0) << 6));
+
+        i.writeByte(mask);
+        this.putPacketValue(i, this.getStackSize());
+        this.putPacketValue(i, this.getCountRequestable());
+    }
+
     @Override
     public void add(final IAEItemStack option) {
         if (option == null) {
@@ -26,37 +26,160 @@ package appeng.util.item;
 import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nonnull;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Interns {@link AESharedItemStack}s, so every kind of item is shared by all {@link AEItemStack}s of it.
+ * <p>
+ * The table is split into segments with their own lock, as stacks are created on the server thread, the crafting
+ * calculators and while decoding packets alike. Entries are weak and removed once their stack was collected.
+ */
 public final class AEItemStackRegistry {
-    private static final WeakHashMap<AESharedItemStack, WeakReference<AESharedItemStack>> REGISTRY = new WeakHashMap<>();
+    private static final int SEGMENT_SHIFT = 6;
+    private static final Segment[] SEGMENTS = new Segment[1 << SEGMENT_SHIFT];
+    private static final ReferenceQueue<AESharedItemStack> COLLECTED = new ReferenceQueue<>();
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    static {
+        for (int i = 0; i < SEGMENTS.length; i++) {
+            SEGMENTS[i] = new Segment();
+        }
+    }
 
     private AEItemStackRegistry() {
     }
 
-    static synchronized AESharedItemStack getRegisteredStack(final @Nonnull ItemStack itemStack) {
+    static AESharedItemStack getRegisteredStack(final @Nonnull ItemStack itemStack) {
         if (itemStack.isEmpty()) {
             throw new IllegalArgumentException("stack cannot be empty");
         }
 
-        int oldStackSize = itemStack.getCount();
-        itemStack.setCount(1);
+        expungeCollected();
+
+        final int hash = AESharedItemStack.hashOf(itemStack);
+        return segmentFor(hash).getOrRegister(itemStack, hash);
+    }
+
+    /**
+     * @return the number of registered stacks, including ones collected but not yet removed.
+     */
+    public static int getLiveEntries() {
+        int entries = 0;
+        for (final Segment segment : SEGMENTS) {
+            entries += segment.size();
+        }
+        return entries;
+    }
 
-        AESharedItemStack search = new AESharedItemStack(itemStack);
-        WeakReference<AESharedItemStack> weak = REGISTRY.get(search);
-        AESharedItemStack ret = null;
+    /**
+     * @return the share of lookups which found an already registered stack, between 0 and 1.
+     */
+    public static double getHitRate() {
+        final long hits = HITS.sum();
+        final long lookups = hits + MISSES.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
 
-        if (weak != null) {
-            ret = weak.get();
+    private static void expungeCollected() {
+        Entry e;
+        while ((e = (Entry) COLLECTED.poll()) != null) {
+            segmentFor(e.hash).remove(e);
         }
+    }
 
-        if (ret == null) {
-            ret = new AESharedItemStack(itemStack.copy());
-            REGISTRY.put(ret, new WeakReference<>(ret));
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Segment segmentFor(final int hash) {
+        return SEGMENTS[spread(hash) >>> (32 - SEGMENT_SHIFT)];
+    }
+
+    private static final class Entry extends WeakReference<AESharedItemStack> {
+        private final int hash;
+        private Entry next;
+
+        private Entry(final AESharedItemStack stack, final int hash, final Entry next) {
+            super(stack, COLLECTED);
+            this.hash = hash;
+            this.next = next;
         }
-        itemStack.setCount(oldStackSize);
+    }
+
+    private static final class Segment {
+        private Entry[] table = new Entry[16];
+        private int count;
 
-        return ret;
+        private synchronized AESharedItemStack getOrRegister(final ItemStack itemStack, final int hash) {
+            final int index = spread(hash) & (this.table.length - 1);
+
+            for (Entry e = this.table[index]; e != null; e = e.next) {
+                if (e.hash == hash) {
+                    final AESharedItemStack stack = e.get();
+                    if (stack != null && stack.matches(itemStack)) {
+                        HITS.increment();
+                        return stack;
+                    }
+                }
+            }
+
+            MISSES.increment();
+
+            final ItemStack definition = itemStack.copy();
+            definition.setCount(1);
+
+            final AESharedItemStack stack = new AESharedItemStack(definition, NEXT_ID.getAndIncrement(), hash);
+            this.table[index] = new Entry(stack, hash, this.table[index]);
+
+            if (++this.count > this.table.length * 3 / 4) {
+                this.resize();
+            }
+
+            return stack;
+        }
+
+        private synchronized void remove(final Entry entry) {
+            final int index = spread(entry.hash) & (this.table.length - 1);
+
+            Entry prev = null;
+            for (Entry e = this.table[index]; e != null; prev = e, e = e.next) {
+                if (e == entry) {
+                    if (prev == null) {
+                        this.table[index] = e.next;
+                    } else {
+                        prev.next = e.next;
+                    }
+
+                    this.count--;
+                    return;
+                }
+            }
+        }
+
+        private synchronized int size() {
+            return this.count;
+        }
+
+        private void resize() {
+            final Entry[] oldTable = this.table;
+            final Entry[] newTable = new Entry[oldTable.length * 2];
+
+            for (Entry head : oldTable) {
+                while (head != null) {
+                    final Entry next = head.next;
+                    final int index = spread(head.hash) & (newTable.length - 1);
+                    head.next = newTable[index];
+                    newTable[index] = head;
+                    head = next;
+                }
+            }
+
+            this.table = newTable;
+        }
     }
 }
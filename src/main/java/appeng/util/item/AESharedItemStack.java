@@ -21,31 +21,28 @@ package appeng.util.item;
 import com.google.common.base.Preconditions;
 import net.minecraft.item.ItemStack;
 
-import java.util.Objects;
-
 
 final class AESharedItemStack {
 
     private final ItemStack itemStack;
     private final int itemDamage;
+    private final long id;
     private final int hashCode;
 
-    public AESharedItemStack(final ItemStack itemStack) {
-        this(itemStack, itemStack.getItemDamage());
-    }
-
     /**
-     * A constructor to explicitly set the damage value and not fetch it from the {@link ItemStack}
+     * Only created by {@link AEItemStackRegistry}, which makes sure there is a single instance for each kind of item.
      *
-     * @param itemStack The {@link ItemStack} to filter
-     * @param damage    The damage of the item
+     * @param itemStack The {@link ItemStack} to share, with a count of 1
+     * @param id        The unique id assigned by the registry
+     * @param hashCode  The hash as computed by {@link #hashOf(ItemStack)}
      */
-    private AESharedItemStack(ItemStack itemStack, int damage) {
-        this.itemStack = itemStack;
-        this.itemDamage = damage;
+    AESharedItemStack(final ItemStack itemStack, final long id, final int hashCode) {
+        Preconditions.checkArgument(itemStack.getCount() == 1, "ItemStack#getCount() has to be 1");
 
-        // Ensure this is always called last.
-        this.hashCode = this.makeHashCode();
+        this.itemStack = itemStack;
+        this.itemDamage = itemStack.getItemDamage();
+        this.id = id;
+        this.hashCode = hashCode;
     }
 
     ItemStack getDefinition() {
@@ -56,32 +53,38 @@ final class AESharedItemStack {
         return this.itemDamage;
     }
 
+    /**
+     * @return the unique id assigned by the registry.
+     */
+    long getId() {
+        return this.id;
+    }
+
+    /**
+     * @return true if the given stack is the same kind of item, regardless of its count.
+     */
+    boolean matches(final ItemStack other) {
+        return this.itemStack.getItem() == other.getItem() && this.itemDamage == other.getItemDamage()
+                && ItemStack.areItemStackTagsEqual(this.itemStack, other);
+    }
+
     @Override
     public int hashCode() {
         return this.hashCode;
     }
 
+    /**
+     * Every kind of item is registered only once, so different instances are never equal.
+     */
     @Override
     public boolean equals(final Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!(obj instanceof AESharedItemStack)) {
-            return false;
-        }
-
-        final AESharedItemStack other = (AESharedItemStack) obj;
-        Preconditions.checkState(this.itemStack.getCount() == 1, "ItemStack#getCount() has to be 1");
-        Preconditions.checkArgument(other.getDefinition().getCount() == 1, "ItemStack#getCount() has to be 1");
-
-        if (this.itemStack == other.itemStack) {
-            return true;
-        }
-        return ItemStack.areItemStacksEqual(this.itemStack, other.itemStack);
+        return this == obj;
     }
 
-    private int makeHashCode() {
-        return Objects.hash(this.itemStack.getItem(), this.itemDamage, this.itemStack.hasTagCompound() ? this.itemStack.getTagCompound() : 0);
+    static int hashOf(final ItemStack itemStack) {
+        int result = 31 + itemStack.getItem().hashCode();
+        result = 31 * result + itemStack.getItemDamage();
+        return 31 * result + (itemStack.hasTagCompound() ? itemStack.getTagCompound().hashCode() : 0);
     }
 
 }
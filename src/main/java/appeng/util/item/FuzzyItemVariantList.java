@@ -124,11 +124,11 @@ class FuzzyItemVariantList extends ItemVariantList {
                 return damageValue;
             }
 
-            // As a final tie breaker, order by the object identity of the item stack
+            // As a final tie breaker, order by the id the registry assigned to the shared stack.
             // While this will order seemingly at random, we only need the order of
             // damage values to be predictable, while still having to satisfy the
-            // complete order requirements of the sorted map
-            return Long.compare(System.identityHashCode(itemStackA), System.identityHashCode(itemStackB));
+            // complete order requirements of the sorted map. Unlike identity hashes, ids never collide.
+            return Long.compare(stackA.getId(), stackB.getId());
         }
     }
 
@@ -20,11 +20,13 @@ package appeng.util.item;
 
 
 import appeng.api.storage.data.IAEItemStack;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.*;
@@ -34,6 +36,8 @@ public class OreHelper {
 
     public static final OreHelper INSTANCE = new OreHelper();
 
+    private static final int MAX_CACHED_REFERENCES = 16384;
+
     /**
      * A local cache to speed up OreDictionary lookups.
      */
@@ -44,7 +48,11 @@ public class OreHelper {
         }
     });
 
-    private final Map<ItemRef, OreReference> references = new HashMap<>();
+    /**
+     * Ore references of the items seen so far, empty for items without any ore name. Bounded, as every item with a
+     * distinct damage value passing through a fuzzy or ore dictionary filter gets an entry.
+     */
+    private final Cache<ItemRef, Optional<OreReference>> references = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_REFERENCES).build();
 
     /**
      * Test if the passed {@link ItemStack} is an ore.
@@ -55,40 +63,51 @@ public class OreHelper {
     public Optional<OreReference> getOre(final ItemStack itemStack) {
         final ItemRef ir = new ItemRef(itemStack);
 
-        if (!this.references.containsKey(ir)) {
-            final OreReference ref = new OreReference();
-            final Collection<Integer> ores = ref.getOres();
-            final Collection<String> set = ref.getEquivalents();
-
-            final Set<String> toAdd = new HashSet<>();
-
-            for (final String ore : OreDictionary.getOreNames()) {
-                // skip ore if it is a match already or null.
-                if (ore == null || toAdd.contains(ore)) {
-                    continue;
-                }
-
-                for (final ItemStack oreItem : this.oreDictCache.getUnchecked(ore)) {
-                    if (OreDictionary.itemMatches(oreItem, itemStack, false)) {
-                        toAdd.add(ore);
-                        break;
-                    }
-                }
-            }
+        Optional<OreReference> ref = this.references.getIfPresent(ir);
+        if (ref == null) {
+            ref = createReference(itemStack);
+            this.references.put(ir, ref);
+        }
 
-            for (final String ore : toAdd) {
-                set.add(ore);
-                ores.add(OreDictionary.getOreID(ore));
-            }
+        return ref;
+    }
 
-            if (!set.isEmpty()) {
-                this.references.put(ir, ref);
-            } else {
-                this.references.put(ir, null);
-            }
+    /**
+     * Uses the reverse index the ore dictionary keeps from item and damage to ore ids, which covers both wildcard and
+     * exact damage entries, instead of testing the item against every registered ore.
+     */
+    private static Optional<OreReference> createReference(final ItemStack itemStack) {
+        if (itemStack.isEmpty()) {
+            return Optional.empty();
         }
 
-        return Optional.ofNullable(this.references.get(ir));
+        final int[] oreIds = OreDictionary.getOreIDs(itemStack);
+        if (oreIds.length == 0) {
+            return Optional.empty();
+        }
+
+        final OreReference ref = new OreReference();
+        for (final int oreId : oreIds) {
+            ref.getEquivalents().add(OreDictionary.getOreName(oreId));
+            ref.getOres().add(oreId);
+        }
+
+        return Optional.of(ref);
+    }
+
+    /**
+     * Items registered late, e.g. by mods using the ore dictionary during init, may already have a cached reference.
+     */
+    @SubscribeEvent
+    public void onOreDictionaryRegister(final OreDictionary.OreRegisterEvent event) {
+        final ItemStack ore = event.getOre();
+        if (ore.isEmpty()) {
+            return;
+        }
+
+        // wildcard registrations apply to every damage value, so drop all of them
+        final Item item = ore.getItem();
+        this.references.asMap().keySet().removeIf(ir -> ir.ref == item);
     }
 
     boolean sameOre(final AEItemStack aeItemStack, final IAEItemStack is) {
@@ -118,16 +137,7 @@ public class OreHelper {
     }
 
     boolean sameOre(final AEItemStack aeItemStack, final ItemStack o) {
-        return aeItemStack.getOre().map(a -> {
-            for (final String oreName : a.getEquivalents()) {
-                for (final ItemStack oreItem : this.oreDictCache.getUnchecked(oreName)) {
-                    if (OreDictionary.itemMatches(oreItem, o, false)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }).orElse(false);
+        return this.sameOre(aeItemStack.getOre().orElse(null), this.getOre(o).orElse(null));
     }
 
     public Set<Integer> getMatchingOre(List<OreDictFilterMatcher.MatchRule> rulesList) {
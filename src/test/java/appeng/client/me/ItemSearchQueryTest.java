@@ -0,0 +1,48 @@
+package appeng.client.me;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ItemSearchQueryTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "|iron|false|true",
+            "iron|iron ingot|false|true",
+            "iron |iron ingot|false|true",
+            "iron|iron -ore|false|true",
+            "iron|Iron ingot|false|true",
+            "iron ingot|iron|false|false", // removing text widens the search
+            "iron|copper|false|false",
+            "iron -o|iron -or|false|false", // longer exclusions hide fewer items
+            "iron !o|iron !or|false|false",
+            "iron -|iron -o|false|false",
+            "@mine|@minecraft|false|true",
+            "mine|@minecraft|false|false",
+            "$ingot|$ingotiron|false|true",
+            "iron|iron ingot|true|true",
+            "iron|iron.|true|false", // regular expressions may match more when extended
+            "a|a*|true|false",
+            "a|a*|false|true",
+    }, delimiter = '|')
+    void testNarrows(String previous, String next, boolean tooltips, boolean expected) {
+        final ItemSearchIndex.Query previousQuery = ItemSearchIndex.Query.parse(previous == null ? "" : previous, tooltips);
+        final ItemSearchIndex.Query nextQuery = ItemSearchIndex.Query.parse(next, tooltips);
+
+        assertEquals(expected, nextQuery.narrows(previousQuery));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "iron|true",
+            "iron|false",
+    }, delimiter = '|')
+    void testDifferentTooltipSettingNeverNarrows(String text, boolean tooltips) {
+        final ItemSearchIndex.Query previousQuery = ItemSearchIndex.Query.parse(text, tooltips);
+        final ItemSearchIndex.Query nextQuery = ItemSearchIndex.Query.parse(text, !tooltips);
+
+        assertEquals(false, nextQuery.narrows(previousQuery));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+
+public class TimingWheelTest
+{
+
+	private final TimingWheel<TestEntry> unitUnderTest = new TimingWheel<>( 0 );
+
+	@Test
+	public void testPollOnlyAtDueTick()
+	{
+		final TestEntry entry = new TestEntry();
+		this.unitUnderTest.schedule( entry, 3 );
+
+		this.advanceTo( 2 );
+		assertThat( this.unitUnderTest.poll(), is( nullValue() ) );
+
+		this.unitUnderTest.advance();
+		assertThat( this.unitUnderTest.poll(), is( sameInstance( entry ) ) );
+		assertThat( this.unitUnderTest.poll(), is( nullValue() ) );
+		assertThat( this.unitUnderTest.size(), is( 0 ) );
+	}
+
+	@Test
+	public void testDueTicksInOrderOfScheduling()
+	{
+		final TestEntry first = new TestEntry();
+		final TestEntry second = new TestEntry();
+		this.unitUnderTest.schedule( first, 1 );
+		this.unitUnderTest.schedule( second, 1 );
+
+		this.unitUnderTest.advance();
+		assertThat( this.unitUnderTest.poll(), is( sameInstance( first ) ) );
+		assertThat( this.unitUnderTest.poll(), is( sameInstance( second ) ) );
+	}
+
+	@Test
+	public void testCascadeDistantTicks()
+	{
+		final TestEntry entry = new TestEntry();
+		this.unitUnderTest.schedule( entry, 1000 );
+
+		this.advanceTo( 999 );
+		assertThat( this.unitUnderTest.poll(), is( nullValue() ) );
+
+		this.unitUnderTest.advance();
+		assertThat( this.unitUnderTest.poll(), is( sameInstance( entry ) ) );
+	}
+
+	@Test
+	public void testCancel()
+	{
+		final TestEntry entry = new TestEntry();
+		this.unitUnderTest.schedule( entry, 5 );
+
+		assertThat( this.unitUnderTest.cancel( entry ), is( true ) );
+		assertThat( this.unitUnderTest.cancel( entry ), is( false ) );
+		assertThat( this.unitUnderTest.isScheduled( entry ), is( false ) );
+
+		this.advanceTo( 5 );
+		assertThat( this.unitUnderTest.poll(), is( nullValue() ) );
+	}
+
+	@Test
+	public void testRescheduleReplacesEarlierTick()
+	{
+		final TestEntry entry = new TestEntry();
+		this.unitUnderTest.schedule( entry, 2 );
+		this.unitUnderTest.schedule( entry, 4 );
+
+		assertThat( this.unitUnderTest.size(), is( 1 ) );
+
+		this.advanceTo( 2 );
+		assertThat( this.unitUnderTest.poll(), is( nullValue() ) );
+
+		this.advanceTo( 4 );
+		assertThat( this.unitUnderTest.poll(), is( sameInstance( entry ) ) );
+	}
+
+	@Test
+	public void testPastTicksMoveToNextTick()
+	{
+		final TestEntry entry = new TestEntry();
+		this.advanceTo( 10 );
+		this.unitUnderTest.schedule( entry, 7 );
+
+		assertThat( entry.getDueTick(), is( 11L ) );
+		assertThat( this.unitUnderTest.poll(), is( nullValue() ) );
+
+		this.unitUnderTest.advance();
+		assertThat( this.unitUnderTest.poll(), is( sameInstance( entry ) ) );
+	}
+
+	private void advanceTo( final long tick )
+	{
+		while( this.unitUnderTest.getCurrentTick() < tick )
+		{
+			this.unitUnderTest.advance();
+		}
+	}
+
+	private static class TestEntry extends TimingWheel.Entry
+	{
+	}
+}
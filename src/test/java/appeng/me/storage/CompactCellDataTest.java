@@ -0,0 +1,72 @@
+package appeng.me.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CompactCellDataTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE})
+    void testCountsRoundTrip(long count) throws IOException {
+        final CompactCellData data = new CompactCellData(Collections.singletonList(new byte[]{1, 2, 3}), new long[]{count});
+
+        final CompactCellData read = CompactCellData.read(data.write());
+
+        assertEquals(1, read.size());
+        assertArrayEquals(new byte[]{1, 2, 3}, read.getType(0));
+        assertEquals(count, read.getCount(0));
+    }
+
+    @Test
+    void testTypesRoundTrip() throws IOException {
+        final byte[] large = new byte[300];
+        Arrays.fill(large, (byte) 7);
+        final CompactCellData data = new CompactCellData(Arrays.asList(new byte[0], large, new byte[]{-1}), new long[]{5, 6, 7});
+
+        final CompactCellData read = CompactCellData.read(data.write());
+
+        assertEquals(3, read.size());
+        assertArrayEquals(new byte[0], read.getType(0));
+        assertArrayEquals(large, read.getType(1));
+        assertArrayEquals(new byte[]{-1}, read.getType(2));
+        assertEquals(7, read.getCount(2));
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        final CompactCellData read = CompactCellData.read(new CompactCellData(Collections.emptyList(), new long[0]).write());
+
+        assertEquals(0, read.size());
+    }
+
+    @Test
+    void testTruncatedDataIsRejected() {
+        final byte[] data = new CompactCellData(Collections.singletonList(new byte[]{1, 2, 3}), new long[]{1000}).write();
+
+        assertThrows(IOException.class, () -> CompactCellData.read(Arrays.copyOf(data, data.length - 1)));
+    }
+
+    @Test
+    void testTrailingDataIsRejected() {
+        final byte[] data = new CompactCellData(Collections.singletonList(new byte[]{1}), new long[]{1}).write();
+
+        assertThrows(IOException.class, () -> CompactCellData.read(Arrays.copyOf(data, data.length + 1)));
+    }
+
+    @Test
+    void testUnknownVersionIsRejected() {
+        final byte[] data = new CompactCellData(Collections.emptyList(), new long[0]).write();
+        data[0] = (byte) (CompactCellData.VERSION + 1);
+
+        assertThrows(IOException.class, () -> CompactCellData.read(data));
+    }
+}
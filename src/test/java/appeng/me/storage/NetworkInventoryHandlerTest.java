@@ -0,0 +1,171 @@
+package appeng.me.storage;
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionHost;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.core.api.ApiStorage;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.item.AEItemStack;
+import appeng.util.item.ItemList;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NetworkInventoryHandlerTest {
+
+    private static IStorageChannel<IAEItemStack> channel;
+
+    private final IActionSource src = new BaseActionSource();
+    private NetworkInventoryHandler<IAEItemStack> network;
+    private TrackedCell cell;
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+        channel = new ApiStorage().getStorageChannel(IItemStorageChannel.class);
+    }
+
+    @BeforeEach
+    void setup() {
+        // the security cache is only asked for sources with a player or machine.
+        this.network = new NetworkInventoryHandler<>(channel, null);
+        this.cell = new TrackedCell();
+        this.cell.items.add(iron(10));
+        this.network.addNewStorage(this.cell);
+    }
+
+    @Test
+    void testOversizedSimulationKeepsHolder() {
+        final IAEItemStack simulated = this.network.extractItems(iron(100), Actionable.SIMULATE, this.src);
+        assertNotNull(simulated);
+        assertEquals(10, simulated.getStackSize());
+
+        final IAEItemStack extracted = this.network.extractItems(iron(10), Actionable.MODULATE, this.src);
+        assertNotNull(extracted);
+        assertEquals(10, extracted.getStackSize());
+    }
+
+    @Test
+    void testPartialRefusalKeepsHolder() {
+        this.cell.maxPerExtraction = 4;
+
+        final IAEItemStack first = this.network.extractItems(iron(10), Actionable.MODULATE, this.src);
+        assertNotNull(first);
+        assertEquals(4, first.getStackSize());
+
+        final IAEItemStack second = this.network.extractItems(iron(10), Actionable.MODULATE, this.src);
+        assertNotNull(second);
+        assertEquals(4, second.getStackSize());
+    }
+
+    @Test
+    void testDrainedHolderIsSkipped() {
+        final IAEItemStack extracted = this.network.extractItems(iron(100), Actionable.MODULATE, this.src);
+        assertNotNull(extracted);
+        assertEquals(10, extracted.getStackSize());
+
+        // not reported through the grid, so the drained cell is not looked at again.
+        this.cell.items.add(iron(5));
+        assertNull(this.network.extractItems(iron(5), Actionable.MODULATE, this.src));
+    }
+
+    private static IAEItemStack iron(final long amount) {
+        final IAEItemStack is = AEItemStack.fromItemStack(new ItemStack(Items.IRON_INGOT));
+        is.setStackSize(amount);
+        return is;
+    }
+
+    private static class TrackedCell implements IMEInventoryHandler<IAEItemStack>, ITrackedInventoryHandler {
+
+        private final IItemList<IAEItemStack> items = new ItemList();
+        private long maxPerExtraction = Long.MAX_VALUE;
+
+        @Override
+        public IActionHost getReportingHost() {
+            return null;
+        }
+
+        @Override
+        public IAEItemStack injectItems(final IAEItemStack input, final Actionable type, final IActionSource src) {
+            if (type == Actionable.MODULATE) {
+                this.items.add(input);
+            }
+
+            return null;
+        }
+
+        @Override
+        public IAEItemStack extractItems(final IAEItemStack request, final Actionable mode, final IActionSource src) {
+            final IAEItemStack stored = this.items.findPrecise(request);
+            if (stored == null || !stored.isMeaningful()) {
+                return null;
+            }
+
+            final IAEItemStack extracted = request.copy();
+            extracted.setStackSize(Math.min(this.maxPerExtraction, Math.min(request.getStackSize(), stored.getStackSize())));
+
+            if (mode == Actionable.MODULATE) {
+                stored.decStackSize(extracted.getStackSize());
+            }
+
+            return extracted;
+        }
+
+        @Override
+        public IItemList<IAEItemStack> getAvailableItems(final IItemList<IAEItemStack> out) {
+            for (final IAEItemStack is : this.items) {
+                out.add(is);
+            }
+
+            return out;
+        }
+
+        @Override
+        public IStorageChannel<IAEItemStack> getChannel() {
+            return channel;
+        }
+
+        @Override
+        public AccessRestriction getAccess() {
+            return AccessRestriction.READ_WRITE;
+        }
+
+        @Override
+        public boolean isPrioritized(final IAEItemStack input) {
+            return false;
+        }
+
+        @Override
+        public boolean canAccept(final IAEItemStack input) {
+            return true;
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public int getSlot() {
+            return 0;
+        }
+
+        @Override
+        public boolean validForPass(final int i) {
+            return true;
+        }
+    }
+}
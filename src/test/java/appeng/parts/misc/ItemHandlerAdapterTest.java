@@ -0,0 +1,205 @@
+package appeng.parts.misc;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.util.AECableType;
+import appeng.api.util.AEPartLocation;
+import appeng.api.util.DimensionalCoord;
+import appeng.me.helpers.AENetworkProxy;
+import appeng.me.helpers.BaseActionSource;
+import appeng.me.helpers.IGridProxyable;
+import appeng.util.item.AEItemStack;
+import appeng.util.item.ItemList;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ItemHandlerAdapterTest {
+
+    private final IActionSource src = new BaseActionSource();
+    private final List<Long> posted = new ArrayList<>();
+    private RedirectingHandler handler;
+    private ItemHandlerAdapter adapter;
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+
+    @BeforeEach
+    void setup() {
+        this.handler = new RedirectingHandler(4);
+        this.adapter = new ItemHandlerAdapter(this.handler, new Host());
+        this.adapter.addListener(new Listener(), null);
+    }
+
+    @Test
+    void testRedirectedInsertIsPostedRightAway() {
+        assertNull(this.adapter.injectItems(iron(10), Actionable.MODULATE, this.src));
+
+        // the items went into the last slot, not the first one the storage bus inserted into.
+        assertEquals(10, this.handler.getStackInSlot(3).getCount());
+        assertEquals(Collections.singletonList(10L), this.posted);
+        assertEquals(10, this.storedIron());
+    }
+
+    @Test
+    void testRescanDoesNotPostRedirectedInsertTwice() {
+        this.adapter.injectItems(iron(10), Actionable.MODULATE, this.src);
+
+        // extracting rescans the redirect target, which only now shows the inserted items.
+        final IAEItemStack extracted = this.adapter.extractItems(iron(4), Actionable.MODULATE, this.src);
+        assertNotNull(extracted);
+        assertEquals(4, extracted.getStackSize());
+
+        assertEquals(Arrays.asList(10L, -4L), this.posted);
+        assertEquals(6, this.storedIron());
+    }
+
+    @Test
+    void testSimulationPostsNothing() {
+        this.adapter.injectItems(iron(10), Actionable.SIMULATE, this.src);
+
+        assertEquals(Collections.emptyList(), this.posted);
+        assertEquals(0, this.storedIron());
+    }
+
+    private long storedIron() {
+        final IAEItemStack stored = this.adapter.getAvailableItems(new ItemList()).findPrecise(iron(1));
+        return stored == null ? 0 : stored.getStackSize();
+    }
+
+    private static IAEItemStack iron(final long amount) {
+        final IAEItemStack is = AEItemStack.fromItemStack(new ItemStack(Items.IRON_INGOT));
+        is.setStackSize(amount);
+        return is;
+    }
+
+    private class Listener implements IMEMonitorHandlerReceiver<IAEItemStack> {
+
+        @Override
+        public boolean isValid(final Object verificationToken) {
+            return true;
+        }
+
+        @Override
+        public void postChange(final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> change, final IActionSource actionSource) {
+            for (final IAEItemStack is : change) {
+                ItemHandlerAdapterTest.this.posted.add(is.getStackSize());
+            }
+        }
+
+        @Override
+        public void onListUpdate() {
+        }
+    }
+
+    /**
+     * Accepts items through any slot, but keeps all of them in its last slot.
+     */
+    private static class RedirectingHandler implements IItemHandler {
+
+        private final ItemStack[] slots;
+
+        private RedirectingHandler(final int slots) {
+            this.slots = new ItemStack[slots];
+            Arrays.fill(this.slots, ItemStack.EMPTY);
+        }
+
+        @Override
+        public int getSlots() {
+            return this.slots.length;
+        }
+
+        @Override
+        public ItemStack getStackInSlot(final int slot) {
+            return this.slots[slot];
+        }
+
+        @Override
+        public ItemStack insertItem(final int slot, final ItemStack stack, final boolean simulate) {
+            final int target = this.slots.length - 1;
+            final ItemStack existing = this.slots[target];
+            if (!existing.isEmpty() && !ItemHandlerHelper.canItemStacksStack(existing, stack)) {
+                return stack;
+            }
+
+            if (!simulate) {
+                this.slots[target] = ItemHandlerHelper.copyStackWithSize(stack, existing.getCount() + stack.getCount());
+            }
+
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public ItemStack extractItem(final int slot, final int amount, final boolean simulate) {
+            final ItemStack existing = this.slots[slot];
+            final int extracted = Math.min(amount, existing.getCount());
+            if (extracted <= 0) {
+                return ItemStack.EMPTY;
+            }
+
+            if (!simulate) {
+                this.slots[slot] = existing.getCount() == extracted ? ItemStack.EMPTY : ItemHandlerHelper.copyStackWithSize(existing, existing.getCount() - extracted);
+            }
+
+            return ItemHandlerHelper.copyStackWithSize(existing, extracted);
+        }
+
+        @Override
+        public int getSlotLimit(final int slot) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static class Host implements IGridProxyable {
+
+        private final AENetworkProxy proxy = new AENetworkProxy(this, "proxy", ItemStack.EMPTY, true);
+
+        @Override
+        public AENetworkProxy getProxy() {
+            return this.proxy;
+        }
+
+        @Override
+        public DimensionalCoord getLocation() {
+            return null;
+        }
+
+        @Override
+        public void gridChanged() {
+        }
+
+        @Override
+        public IGridNode getGridNode(final AEPartLocation dir) {
+            return null;
+        }
+
+        @Override
+        public AECableType getCableConnectionType(final AEPartLocation dir) {
+            return AECableType.NONE;
+        }
+
+        @Override
+        public void securityBreak() {
+        }
+    }
+}
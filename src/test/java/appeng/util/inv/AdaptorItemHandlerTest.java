@@ -0,0 +1,51 @@
+package appeng.util.inv;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptorItemHandlerTest {
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+
+    @Test
+    void testTypesCompeteForFreeSlots() {
+        final AdaptorItemHandler adaptor = new AdaptorItemHandler(new ItemStackHandler(2));
+
+        // each of them fits on its own, but not both together.
+        assertTrue(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.IRON_INGOT, 128))));
+        assertTrue(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.GOLD_INGOT, 128))));
+        assertFalse(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.IRON_INGOT, 128), new ItemStack(Items.GOLD_INGOT, 128))));
+    }
+
+    @Test
+    void testSameTypeFillsPartialSlots() {
+        final ItemStackHandler handler = new ItemStackHandler(2);
+        handler.setStackInSlot(0, new ItemStack(Items.IRON_INGOT, 32));
+        final AdaptorItemHandler adaptor = new AdaptorItemHandler(handler);
+
+        assertTrue(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.IRON_INGOT, 16), new ItemStack(Items.IRON_INGOT, 80))));
+        assertFalse(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.IRON_INGOT, 16), new ItemStack(Items.IRON_INGOT, 81))));
+        assertFalse(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.IRON_INGOT, 16), new ItemStack(Items.GOLD_INGOT, 65))));
+    }
+
+    @Test
+    void testSimulationLeavesInventoryUnchanged() {
+        final ItemStackHandler handler = new ItemStackHandler(1);
+        final AdaptorItemHandler adaptor = new AdaptorItemHandler(handler);
+
+        assertTrue(adaptor.simulateAddAll(Arrays.asList(new ItemStack(Items.IRON_INGOT, 64))));
+        assertTrue(handler.getStackInSlot(0).isEmpty());
+    }
+}